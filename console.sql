@@ -1,3 +1,5 @@
+-- 스키마는 src/main/resources/db/migration 의 Flyway 마이그레이션이 관리합니다.
+-- 이 파일은 샘플 데이터와 확인용 쿼리 모음입니다.
 create table todo (
                       id int auto_increment primary key ,
                       title varchar(255) not null ,
@@ -5,8 +7,8 @@ create table todo (
                       password varchar(255) not null,
                       dueDate date,
                       completed boolean default false,
-                      createAt timestamp default current_timestamp,
-                      updateAt timestamp default current_timestamp on update current_timestamp
+                      createdAt timestamp default current_timestamp,
+                      updatedAt timestamp default current_timestamp on update current_timestamp
 );
 alter table todo
     add column author_id int;
@@ -61,7 +63,7 @@ VALUES
 drop table author;
 create table author(
                        author_id int auto_increment primary key,
-                       author    varchar(255) not null,
+                       authorName varchar(255) not null,
                        email     varchar(255) unique not null,
                        createdAt TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
                        updatedAt TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# 응답 압축 효과 측정 : 주요 화면/API/정적 리소스의 전송 크기(bytes-on-wire)와 TTFB(첫 바이트까지 시간) 중앙값
+#
+#   ./loadtest/measure-compression.sh
+#   BASE_URL=http://localhost:8080 RUNS=50 ./loadtest/measure-compression.sh
+#
+# 압축 전 값은 --server.compression.enabled=false --spring.web.resources.chain.compressed=false
+# --todo.cache.list-html-enabled=false 로 실행한 서버에서 측정해 같은 표로 비교합니다.
+#
+# 한 클라이언트에서 경로 x 인코딩 x (RUNS + 1) 번 요청하므로 (기본 252번) 클라이언트별 요청 수 제한(burst 40)에 걸립니다.
+# 압축 전/후 모두 서버를 --todo.rate-limit.enabled=false 로 실행하세요. 429 를 받으면 측정을 멈춥니다.
+set -euo pipefail
+
+BASE_URL=${BASE_URL:-http://localhost:8080}
+RUNS=${RUNS:-20}
+
+# 목록 화면에 링크된 내용 해시가 붙은 CSS 경로 (리소스 체인을 끈 경우 /css/list.css)
+CSS_PATH=$(curl -s "$BASE_URL/todo" | grep -o '/css/list[^"]*\.css' | head -n 1 || true)
+CSS_PATH=${CSS_PATH:-/css/list.css}
+
+PATHS=(
+    "/todo"
+    "/todo/read?id=1"
+    "/api/todo?page=1&size=100"
+    "$CSS_PATH"
+)
+ENCODINGS=("identity" "gzip" "br")
+
+printf '%-36s %-9s %12s %12s %s\n' "path" "accept" "bytes" "ttfb(ms)" "content-encoding"
+for path in "${PATHS[@]}"; do
+    for encoding in "${ENCODINGS[@]}"; do
+        # 헤더로 Content-Encoding 을 확인하고, RUNS 번 요청해 크기와 TTFB 중앙값을 구함
+        headers=$(curl -s -o /dev/null -D - -H "Accept-Encoding: $encoding" "$BASE_URL$path" | tr -d '\r')
+        if [[ $(head -n 1 <<< "$headers") == *" 429"* ]]; then
+            echo "요청 수 제한(429)에 걸렸습니다. 서버를 --todo.rate-limit.enabled=false 로 실행한 뒤 다시 측정하세요." >&2
+            exit 1
+        fi
+        content_encoding=$(awk -F': ' 'tolower($1) == "content-encoding" { print $2 }' <<< "$headers")
+        for _ in $(seq "$RUNS"); do
+            curl -s -o /dev/null -H "Accept-Encoding: $encoding" \
+                -w '%{size_download} %{time_starttransfer}\n' "$BASE_URL$path"
+        done | sort -k2 -n | awk -v path="$path" -v accept="$encoding" -v ce="${content_encoding:--}" '
+            { size[NR] = $1; ttfb[NR] = $2 }
+            END {
+                mid = int((NR + 1) / 2)
+                printf "%-36s %-9s %12d %12.2f %s\n", path, accept, size[mid], ttfb[mid] * 1000, ce
+            }'
+    done
+done
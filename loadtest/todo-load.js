@@ -0,0 +1,69 @@
+// k6 부하 테스트 : 목록 화면(/todo)과 단건 조회 API(/api/todo/{id}) 처리량 측정
+//
+//   k6 run loadtest/todo-load.js
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=3000 -e MAX_ID=10000 loadtest/todo-load.js
+//
+// spring.threads.virtual.enabled 를 true / false 로 바꿔 두 번 실행하고
+// http_reqs(초당 요청 수), http_req_duration p(95), 실패율을 비교합니다.
+//
+// 모든 가상 사용자가 같은 IP 에서 요청하므로 클라이언트(IP)별 요청 수 제한(초당 20, burst 40)에 바로 걸립니다.
+// 처리량을 비교할 때는 서버를 과부하 보호 없이 실행하세요.
+//   ./gradlew bootRun --args='--todo.rate-limit.enabled=false --todo.concurrency-limit.enabled=false'
+// 제한이 켜져 있어 429 를 받으면 rate_limited 임계값으로 실행이 실패합니다.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '2000');
+const MAX_ID = parseInt(__ENV.MAX_ID || '1000');
+
+// 요청 수 제한(429)에 걸린 응답 수, 0 이어야 측정값이 서버 처리량을 나타냄
+const rateLimited = new Counter('rate_limited');
+
+const stages = [
+    { duration: '30s', target: VUS },  // 동시 접속자를 VUS 까지 증가
+    { duration: '1m', target: VUS },   // 유지
+    { duration: '10s', target: 0 },
+];
+
+export const options = {
+    scenarios: {
+        list_page: {
+            executor: 'ramping-vus',
+            exec: 'listPage',
+            stages: stages,
+        },
+        find_by_id: {
+            executor: 'ramping-vus',
+            exec: 'findById',
+            stages: stages,
+        },
+    },
+    thresholds: {
+        'http_req_failed': ['rate<0.01'],
+        'rate_limited': [{ threshold: 'count==0', abortOnFail: true }],
+        'http_req_duration{scenario:list_page}': ['p(95)<500'],
+        'http_req_duration{scenario:find_by_id}': ['p(95)<200'],
+    },
+};
+
+export function listPage() {
+    const page = Math.floor(Math.random() * 10) + 1;
+    const res = http.get(`${BASE_URL}/todo?page=${page}&size=10`, { tags: { name: '/todo' } });
+    countRateLimited(res);
+    check(res, { 'list 200': (r) => r.status === 200 });
+}
+
+export function findById() {
+    const id = Math.floor(Math.random() * MAX_ID) + 1;
+    const res = http.get(`${BASE_URL}/api/todo/${id}`, { tags: { name: '/api/todo/{id}' } });
+    countRateLimited(res);
+    check(res, { 'findById 200/404': (r) => r.status === 200 || r.status === 404 });
+}
+
+function countRateLimited(res) {
+    if (res.status === 429) {
+        rateLimited.add(1);
+    }
+}
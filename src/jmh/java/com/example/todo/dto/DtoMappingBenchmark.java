@@ -0,0 +1,76 @@
+package com.example.todo.dto;
+
+import com.example.todo.entity.TodoEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 계층에서 목록 응답을 만들 때 매번 거치는 변환 비용 측정
+ * (TodoEntity -> TodoRequestDto 변환, PageResponseDto 생성)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private List<TodoEntity> entityList;
+    private List<TodoRequestDto> dtoList;
+    private PageRequestDto pageRequestDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entityList = new ArrayList<>(pageSize);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 1; i <= pageSize; i++) {
+            entityList.add(TodoEntity.builder()
+                    .id(i)
+                    .title("할 일 " + i)
+                    .description("벤치마크 일정 설명 " + i)
+                    .completed(i % 3 == 0)
+                    .authorName("작성자" + i)
+                    .email("author" + i + "@example.com")
+                    .dueDate(LocalDate.now().plusDays(i))
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        dtoList = toRequestDtos();
+        pageRequestDto = new PageRequestDto(3, pageSize);
+    }
+
+    @Benchmark
+    public List<TodoRequestDto> toRequestDtos() {
+        return entityList.stream()
+                .map(TodoRequestDto::new)
+                .toList();
+    }
+
+    @Benchmark
+    public PageResponseDto<TodoRequestDto> pageResponse() {
+        return PageResponseDto.<TodoRequestDto>withAll()
+                .pageRequestDto(pageRequestDto)
+                .dtoList(dtoList)
+                .total(pageSize * 1_000)
+                .build();
+    }
+
+    @Benchmark
+    public PageResponseDto<TodoRequestDto> listResponse() {
+        return PageResponseDto.<TodoRequestDto>withAll()
+                .pageRequestDto(pageRequestDto)
+                .dtoList(toRequestDtos())
+                .total(pageSize * 1_000)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.todo.repository;
+
+import com.example.todo.config.TodoProperties;
+import org.h2.jdbcx.JdbcDataSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * 벤치마크용 내장 H2(MySQL 모드) 데이터베이스
+ * bench-schema.sql 로 스키마를 만들고 지정한 행 수만큼 일정을 채웁니다.
+ */
+public final class BenchmarkDatabase {
+
+    // 작성자 한 명당 일정 수 (작성자 검색 결과 크기를 실제 사용 패턴과 비슷하게 맞춤)
+    private static final int TODOS_PER_AUTHOR = 100;
+
+    private BenchmarkDatabase() {
+    }
+
+    /**
+     * rowCount 개의 일정이 들어 있는 새 인메모리 DB 를 만듭니다.
+     * 마감일은 30일 전 ~ 335일 후로 퍼뜨리고 세 건 중 한 건은 완료 상태로 둡니다.
+     */
+    public static NamedParameterJdbcTemplate create(int rowCount) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:todo_bench_" + rowCount + "_" + System.nanoTime()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+
+        new ResourceDatabasePopulator(new ClassPathResource("bench-schema.sql")).execute(dataSource);
+
+        NamedParameterJdbcTemplate jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        int authorCount = Math.max(1, rowCount / TODOS_PER_AUTHOR);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("rowCount", rowCount)
+                .addValue("authorCount", authorCount);
+
+        jdbcTemplate.update("insert into author (authorName, email) " +
+                "select concat('작성자', x), concat('author', x, '@example.com') " +
+                "from system_range(1, :authorCount)", params);
+        jdbcTemplate.update("insert into todo (title, description, password, dueDate, completed, author_id) " +
+                "select concat('할 일 ', x), concat('벤치마크 일정 설명 ', x), 'password1', " +
+                "dateadd('DAY', mod(x, 365) - 30, current_date), mod(x, 3) = 0, mod(x, :authorCount) + 1 " +
+                "from system_range(1, :rowCount)", params);
+        jdbcTemplate.update("update todo set overdue = true where dueDate < current_date", params);
+        return jdbcTemplate;
+    }
+
+    /**
+     * FULLTEXT 인덱스가 없는 H2 에 맞춰 전문 검색을 끈 설정
+     */
+    public static TodoProperties properties() {
+        TodoProperties todoProperties = new TodoProperties();
+        todoProperties.getSearch().setFullTextEnabled(false);
+        return todoProperties;
+    }
+}
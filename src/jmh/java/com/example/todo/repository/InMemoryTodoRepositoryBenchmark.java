@@ -0,0 +1,123 @@
+package com.example.todo.repository;
+
+import com.example.todo.config.TodoProperties;
+import com.example.todo.dto.PageRequestDto;
+import com.example.todo.dto.TodoCursor;
+import com.example.todo.dto.TodoListItemDto;
+import com.example.todo.entity.AuthorEntity;
+import com.example.todo.entity.TodoEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * InMemoryTodoRepository 의 조회 경로를 TodoRepositoryBenchmark 와 같은 데이터 분포로 측정
+ * 두 결과를 나란히 놓으면 저장소 엔진만 바꿨을 때의 차이를 볼 수 있습니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx6g"})
+@State(Scope.Benchmark)
+public class InMemoryTodoRepositoryBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+    private static final int TODOS_PER_AUTHOR = 100;
+
+    @Param({"10000", "100000", "1000000"})
+    public int rowCount;
+
+    private InMemoryTodoRepository todoRepository;
+    private PageRequestDto firstPage;
+    private PageRequestDto middlePage;
+    private PageRequestDto middleCursor;
+    private PageRequestDto titleSearch;
+    private PageRequestDto authorSearch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryAuthorRepository authorRepository = new InMemoryAuthorRepository();
+        todoRepository = new InMemoryTodoRepository(new TodoProperties(), authorRepository);
+
+        // BenchmarkDatabase 와 같은 분포 (마감일 30일 전 ~ 335일 후, 세 건 중 한 건 완료)
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        int authorCount = Math.max(1, rowCount / TODOS_PER_AUTHOR);
+        List<AuthorEntity> authors = new ArrayList<>(authorCount);
+        for (int authorId = 1; authorId <= authorCount; authorId++) {
+            authors.add(AuthorEntity.builder()
+                    .authorName("작성자" + authorId)
+                    .email("author" + authorId + "@example.com")
+                    .build());
+        }
+        int[] authorIds = authorRepository.findOrCreateAuthorIds(authors);
+        List<TodoEntity> todos = new ArrayList<>(rowCount);
+        for (int x = 1; x <= rowCount; x++) {
+            int authorId = authorIds[x % authorCount];
+            todos.add(TodoEntity.builder()
+                    .title("할 일 " + x)
+                    .description("벤치마크 일정 설명 " + x)
+                    .password("password1")
+                    .dueDate(today.plusDays(x % 365 - 30))
+                    .completed(x % 3 == 0)
+                    .authorId(authorId)
+                    .authorName("작성자" + authorId)
+                    .email("author" + authorId + "@example.com")
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        todoRepository.registerTodoLists(todos);
+
+        int middle = rowCount / 2;
+        firstPage = new PageRequestDto(1, PAGE_SIZE);
+        middlePage = new PageRequestDto(middle / PAGE_SIZE + 1, PAGE_SIZE);
+
+        // offset 페이징의 같은 위치와 비교할 수 있도록 가운데 페이지 앞 행의 정렬 키로 커서를 만듦
+        TodoListItemDto anchor = todoRepository.getList(new PageRequestDto(middle / PAGE_SIZE, PAGE_SIZE)).getLast();
+        middleCursor = new PageRequestDto(1, PAGE_SIZE);
+        middleCursor.setCursor(new TodoCursor(anchor.isCompleted(), anchor.isOverdue(), anchor.getDueDate(), anchor.getId()).encode());
+
+        titleSearch = new PageRequestDto(1, PAGE_SIZE);
+        titleSearch.setQuery("할 일 12");
+        authorSearch = new PageRequestDto(1, PAGE_SIZE);
+        authorSearch.setQuery("작성자1");
+    }
+
+    @Benchmark
+    public PagedResult<TodoListItemDto> getListFirstPage() {
+        return todoRepository.getListWithTotal(firstPage);
+    }
+
+    @Benchmark
+    public PagedResult<TodoListItemDto> getListMiddlePage() {
+        return todoRepository.getListWithTotal(middlePage);
+    }
+
+    @Benchmark
+    public List<TodoListItemDto> getListByCursorMiddle() {
+        return todoRepository.getListByCursor(middleCursor, PAGE_SIZE + 1);
+    }
+
+    @Benchmark
+    public PagedResult<TodoListItemDto> searchByTitle() {
+        return todoRepository.searchByTitleWithTotal(titleSearch);
+    }
+
+    @Benchmark
+    public PagedResult<TodoListItemDto> searchByAuthor() {
+        return todoRepository.searchByAuthorWithTotal(authorSearch);
+    }
+
+    @Benchmark
+    public Optional<TodoEntity> findById() {
+        return todoRepository.findById(ThreadLocalRandom.current().nextInt(1, rowCount + 1));
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.todo.repository;
+
+import com.example.todo.dto.TodoListItemDto;
+import com.example.todo.dto.TodoRequestDto;
+import com.example.todo.entity.TodoEntity;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 한 페이지(100행)를 읽어 응답 객체 목록으로 만드는 비용 측정
+ * 두 벤치마크는 같은 쿼리를 같은 내장 DB 에 실행하므로 차이는 매핑 방식에서만 생깁니다.
+ *
+ * <ul>
+ *     <li>entityThenRequestDto : 이전 방식, 컬럼 이름으로 TodoEntity 를 만든 뒤 TodoRequestDto 로 복사</li>
+ *     <li>listItemProjection : listItemRowMapper 로 TodoListItemDto 를 위치로 바로 매핑</li>
+ * </ul>
+ * 페이지당 할당량은 ./gradlew jmh -PjmhInclude=RowMapperBenchmark -PjmhProfilers=gc 의 gc.alloc.rate.norm 으로 비교합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RowMapperBenchmark {
+
+    private static final int ROWS = 100;
+
+    // 목록 컬럼(위치 1~6) 뒤에 이전 방식이 읽던 생성/수정 시각을 붙여 두 매퍼가 같은 결과를 읽게 함
+    private static final String SQL = "select t.id, t.title, t.completed, t.dueDate, a.authorName, t.overdue, t.createdAt, t.updatedAt " +
+            "from todo t join author a on t.author_id = a.author_id order by t.id limit :limit";
+
+    // 목록 조회가 TodoEntity 를 만들던 때의 todoEntityRowMapper
+    private static final RowMapper<TodoEntity> ENTITY_ROW_MAPPER = (rs, rowNum) -> TodoEntity.builder()
+            .id(rs.getInt("id"))
+            .title(rs.getString("title"))
+            .completed(rs.getBoolean("completed"))
+            .authorName(rs.getString("authorName"))
+            .dueDate(rs.getTimestamp("dueDate") != null ? rs.getTimestamp("dueDate").toLocalDateTime().toLocalDate() : null)
+            .createdAt(rs.getTimestamp("createdAt") != null ? rs.getTimestamp("createdAt").toLocalDateTime() : null)
+            .updatedAt(rs.getTimestamp("updatedAt") != null ? rs.getTimestamp("updatedAt").toLocalDateTime() : null)
+            .build();
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private RowMapper<TodoListItemDto> listItemRowMapper;
+    private MapSqlParameterSource params;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jdbcTemplate = BenchmarkDatabase.create(ROWS);
+        listItemRowMapper = new TodoRepositoryImpl(jdbcTemplate, BenchmarkDatabase.properties()).listItemRowMapper;
+        params = new MapSqlParameterSource("limit", ROWS);
+    }
+
+    @Benchmark
+    public List<TodoRequestDto> entityThenRequestDto() {
+        return jdbcTemplate.query(SQL, params, ENTITY_ROW_MAPPER).stream()
+                .map(TodoRequestDto::new)
+                .toList();
+    }
+
+    @Benchmark
+    public List<TodoListItemDto> listItemProjection() {
+        return jdbcTemplate.query(SQL, params, listItemRowMapper);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.todo.repository;
+
+import com.example.todo.dto.PageRequestDto;
+import com.example.todo.dto.TodoCursor;
+import com.example.todo.dto.TodoListItemDto;
+import com.example.todo.entity.TodoEntity;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TodoRepositoryImpl 의 주요 조회/저장 경로를 내장 H2 에 대해 측정
+ * rowCount 는 build.gradle 의 -PjmhRows 로 바꿀 수 있습니다. (예: -PjmhRows=10000,1000000,10000000)
+ * 1000만 건은 인메모리 DB 가 힙을 많이 쓰므로 포크 JVM 힙을 넉넉히 잡습니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx6g"})
+@State(Scope.Benchmark)
+public class TodoRepositoryBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    public int rowCount;
+
+    private TodoRepositoryImpl todoRepository;
+    private PageRequestDto firstPage;
+    private PageRequestDto middlePage;
+    private PageRequestDto middleCursor;
+    private PageRequestDto titleSearch;
+    private PageRequestDto authorSearch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        NamedParameterJdbcTemplate jdbcTemplate = BenchmarkDatabase.create(rowCount);
+        todoRepository = new TodoRepositoryImpl(jdbcTemplate, BenchmarkDatabase.properties());
+
+        int middle = rowCount / 2;
+        firstPage = new PageRequestDto(1, PAGE_SIZE);
+        middlePage = new PageRequestDto(middle / PAGE_SIZE + 1, PAGE_SIZE);
+
+        // offset 페이징의 같은 위치와 비교할 수 있도록 가운데 행의 정렬 키로 커서를 만듦
+        TodoCursor cursor = jdbcTemplate.queryForObject(
+                "select completed, overdue, dueDate, id from todo " +
+                        "order by completed, overdue, dueDate, id limit 1 offset :offset",
+                new MapSqlParameterSource("offset", middle),
+                (rs, rowNum) -> new TodoCursor(rs.getBoolean("completed"), rs.getBoolean("overdue"),
+                        rs.getObject("dueDate", LocalDate.class), rs.getInt("id")));
+        middleCursor = new PageRequestDto(1, PAGE_SIZE);
+        middleCursor.setCursor(cursor.encode());
+
+        titleSearch = new PageRequestDto(1, PAGE_SIZE);
+        titleSearch.setQuery("할 일 12");
+        authorSearch = new PageRequestDto(1, PAGE_SIZE);
+        authorSearch.setQuery("작성자1");
+    }
+
+    @Benchmark
+    public PagedResult<TodoListItemDto> getListFirstPage() {
+        return todoRepository.getListWithTotal(firstPage);
+    }
+
+    @Benchmark
+    public PagedResult<TodoListItemDto> getListMiddlePage() {
+        return todoRepository.getListWithTotal(middlePage);
+    }
+
+    @Benchmark
+    public List<TodoListItemDto> getListByCursorMiddle() {
+        return todoRepository.getListByCursor(middleCursor, PAGE_SIZE + 1);
+    }
+
+    @Benchmark
+    public int getCount() {
+        return todoRepository.getCount(firstPage);
+    }
+
+    @Benchmark
+    public Optional<TodoEntity> findById() {
+        return todoRepository.findById(ThreadLocalRandom.current().nextInt(1, rowCount + 1));
+    }
+
+    @Benchmark
+    public PagedResult<TodoListItemDto> searchByTitle() {
+        return todoRepository.searchByTitleWithTotal(titleSearch);
+    }
+
+    @Benchmark
+    public PagedResult<TodoListItemDto> searchByAuthor() {
+        return todoRepository.searchByAuthorWithTotal(authorSearch);
+    }
+
+    /**
+     * 측정하는 동안 계속 행이 늘어나므로 다른 벤치마크와 같은 포크를 쓰지 않습니다. (JMH 는 메서드별로 포크)
+     */
+    @Benchmark
+    public int registerTodoList() {
+        TodoEntity todoEntity = TodoEntity.builder()
+                .title("벤치마크 등록")
+                .description("벤치마크 등록 설명")
+                .password("password1")
+                .dueDate(LocalDate.now().plusDays(7))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        return todoRepository.registerTodoList(todoEntity, 1);
+    }
+}
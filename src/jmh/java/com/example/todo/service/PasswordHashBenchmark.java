@@ -0,0 +1,43 @@
+package com.example.todo.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt strength 별 해시/검증 시간 측정 (todo.password.bcrypt-strength 를 정할 때 사용)
+ * 등록은 hash 한 번, 수정 페이지 진입/삭제는 matches 한 번이 요청마다 CPU 를 차지합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordHashBenchmark {
+
+    private static final String RAW_PASSWORD = "password1234";
+
+    @Param({"8", "10", "12"})
+    public int strength;
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private String storedHash;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder(strength);
+        storedHash = passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public String hash() {
+        return passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(RAW_PASSWORD, storedHash);
+    }
+}
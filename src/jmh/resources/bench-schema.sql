@@ -0,0 +1,29 @@
+-- 벤치마크용 H2(MySQL 모드) 스키마
+-- db/migration 의 최종 스키마와 같은 컬럼/인덱스, H2 가 지원하지 않는 FULLTEXT 인덱스만 제외
+create table author
+(
+    author_id  int auto_increment primary key,
+    authorName varchar(255) not null,
+    email      varchar(255) not null unique,
+    createdAt  timestamp default current_timestamp,
+    updatedAt  timestamp default current_timestamp
+);
+
+create table todo
+(
+    id          int auto_increment primary key,
+    title       varchar(255) not null,
+    description text,
+    password    varchar(255) not null,
+    dueDate     date,
+    completed   boolean   default false,
+    overdue     boolean   not null default false,
+    createdAt   timestamp default current_timestamp,
+    updatedAt   timestamp default current_timestamp,
+    author_id   int,
+    version     int       not null default 0,
+    constraint fk_author_id foreign key (author_id) references author (author_id)
+);
+
+create index idx_todo_list on todo (completed, overdue, dueDate, id);
+create index idx_todo_author_created on todo (author_id, createdAt);
@@ -3,9 +3,11 @@ package com.example.todo;
 import com.example.todo.entity.TodoEntity;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 @EnableTransactionManagement
+@EnableScheduling
 @SpringBootApplication
 public class TodoApplication {
 
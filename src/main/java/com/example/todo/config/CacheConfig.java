@@ -0,0 +1,95 @@
+package com.example.todo.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 애플리케이션에서 사용하는 캐시 등록
+ * 캐시마다 크기와 만료 시간이 달라 이름별로 Caffeine 캐시를 직접 만들어 등록합니다.
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final String TOTAL_COUNT = "todoTotalCount";
+    public static final String TODO_BY_ID = "todoById";
+    public static final String LIST_PAGE = "todoListPage";
+    public static final String LIST_HTML = "todoListHtml";
+    public static final String AUTHOR_ID_BY_EMAIL = "authorIdByEmail";
+    public static final String PASSWORD_VERIFICATION = "passwordVerification";
+
+    @Bean
+    public CacheManager cacheManager(TodoProperties todoProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // 등록하지 않은 이름으로는 캐시가 만들어지지 않도록 고정
+        cacheManager.setCacheNames(List.of());
+
+        TodoProperties.ListProperties list = todoProperties.getList();
+        cacheManager.registerCustomCache(TOTAL_COUNT, Caffeine.newBuilder()
+                .maximumSize(list.getTotalCacheMaxSize())
+                .expireAfterWrite(list.getTotalCacheTtl())
+                .recordStats()
+                .build());
+
+        TodoProperties.CacheProperties cache = todoProperties.getCache();
+        cacheManager.registerCustomCache(TODO_BY_ID, Caffeine.newBuilder()
+                .maximumSize(cache.getByIdMaxSize())
+                .expireAfterWrite(cache.getByIdTtl())
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(LIST_PAGE, Caffeine.newBuilder()
+                .maximumSize(cache.getListMaxSize())
+                .expireAfterWrite(cache.getListTtl())
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(LIST_HTML, Caffeine.newBuilder()
+                .maximumSize(cache.getListHtmlMaxSize())
+                .expireAfterWrite(cache.getListHtmlTtl())
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(AUTHOR_ID_BY_EMAIL, Caffeine.newBuilder()
+                .maximumSize(cache.getAuthorIdMaxSize())
+                .expireAfterWrite(cache.getAuthorIdTtl())
+                .recordStats()
+                .build());
+
+        TodoProperties.PasswordProperties password = todoProperties.getPassword();
+        // 토큰을 쓰고 되돌려도(값 변경) 유효 시간이 늘지 않도록 발급 시각부터 verification-ttl 뒤에 만료
+        cacheManager.registerCustomCache(PASSWORD_VERIFICATION, Caffeine.newBuilder()
+                .maximumSize(password.getVerificationMaxSize())
+                .expireAfter(expireAfterCreate(password.getVerificationTtl()))
+                .recordStats()
+                .build());
+
+        return cacheManager;
+    }
+
+    /**
+     * 처음 저장한 시각부터 ttl 뒤에 만료, 값을 바꾸거나 읽어도 남은 시간은 그대로
+     */
+    private static Expiry<Object, Object> expireAfterCreate(Duration ttl) {
+        long ttlNanos = ttl.toNanos();
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Object key, Object value, long currentTime) {
+                return ttlNanos;
+            }
+
+            @Override
+            public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+}
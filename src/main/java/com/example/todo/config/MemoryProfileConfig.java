@@ -0,0 +1,41 @@
+package com.example.todo.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * memory 프로필 설정 (DataSource 없이 InMemoryTodoRepository, InMemoryAuthorRepository 사용)
+ * 서비스의 @Transactional 이 그대로 동작하도록 아무 자원도 잡지 않는 트랜잭션 관리자를 등록합니다.
+ * 커밋 후 처리(TodoWriteVersion.bump 등)는 실제 트랜잭션과 같은 시점에 실행되지만 롤백해도 메모리 저장소의 변경은 되돌리지 않습니다.
+ */
+@Profile("memory")
+@Configuration
+public class MemoryProfileConfig {
+
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new AbstractPlatformTransactionManager() {
+            @Override
+            protected Object doGetTransaction() {
+                return new Object();
+            }
+
+            @Override
+            protected void doBegin(Object transaction, TransactionDefinition definition) {
+            }
+
+            @Override
+            protected void doCommit(DefaultTransactionStatus status) {
+            }
+
+            @Override
+            protected void doRollback(DefaultTransactionStatus status) {
+            }
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.todo.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 일정 비밀번호 해시 방식
+ * todo.password.bcrypt-strength 로 cost 를 정하며, 저장된 해시에 cost 가 함께 기록되므로
+ * 값을 바꿔도 기존 해시는 그대로 검증됩니다.
+ */
+@Configuration
+public class PasswordConfig {
+
+    @Bean
+    public PasswordEncoder passwordEncoder(TodoProperties todoProperties) {
+        return new BCryptPasswordEncoder(todoProperties.getPassword().getBcryptStrength());
+    }
+}
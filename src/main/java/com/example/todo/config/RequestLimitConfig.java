@@ -0,0 +1,30 @@
+package com.example.todo.config;
+
+import com.example.todo.limit.AdaptiveConcurrencyLimiter;
+import com.example.todo.limit.ClientRateLimiter;
+import com.example.todo.limit.RequestLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 과부하 보호 필터 등록
+ * 화면(/todo)과 API(/api/todo) 요청에만 적용하고 정적 리소스, /actuator 는 제외합니다.
+ */
+@Configuration
+public class RequestLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestLimitFilter> requestLimitFilter(ClientRateLimiter rateLimiter,
+                                                                         AdaptiveConcurrencyLimiter concurrencyLimiter,
+                                                                         MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestLimitFilter> registration =
+                new FilterRegistrationBean<>(new RequestLimitFilter(rateLimiter, concurrencyLimiter, meterRegistry));
+        registration.addUrlPatterns("/todo", "/todo/*", "/api/todo", "/api/todo/*");
+        // 요청 본문을 읽거나 세션을 만드는 다른 필터보다 먼저 거절
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.todo.config;
+
+import org.springframework.boot.autoconfigure.web.WebProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceChainRegistration;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내용 해시가 붙은 정적 리소스 URL(list-<md5>.css)만 1년 동안 캐시
+ * 내용이 바뀌면 URL 도 바뀌므로 오래 캐시해도 되지만, 해시 없는 URL(/css/list.css)은 같은 URL 로 내용이 바뀌므로
+ * spring.web.resources.cache.* 의 기본 정책(no-cache, Last-Modified 로 재검증)을 따릅니다.
+ * 해시가 붙은 경로가 더 구체적인 패턴이라 기본 /** 리소스 핸들러보다 먼저 선택됩니다.
+ */
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    // VersionResourceResolver 의 content 전략이 붙이는 md5 (16진수 32자)
+    // 경로 패턴의 정규식 안에서는 {32} 같은 중괄호를 쓸 수 없어 글자 수만큼 반복
+    private static final String FINGERPRINTED_CSS = "/css/{file:.+-" + "[0-9a-f]".repeat(32) + "\\.css}";
+
+    private final WebProperties.Resources.Chain chain;
+
+    public StaticResourceConfig(WebProperties webProperties) {
+        this.chain = webProperties.getResources().getChain();
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        ResourceChainRegistration registration = registry.addResourceHandler(FINGERPRINTED_CSS)
+                .addResourceLocations("classpath:/static/css/")
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .resourceChain(chain.isCache());
+        // 기본 리소스 체인과 같이 빌드 시 만든 압축본(.br/.gz)을 고르고(spring.web.resources.chain.compressed), URL 의 해시를 떼어 원본을 찾음
+        if (chain.isCompressed()) {
+            registration.addResolver(new EncodedResourceResolver());
+        }
+        registration.addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.todo.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * application.properties 의 todo.* 설정값
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "todo")
+@Validated
+public class TodoProperties {
+
+    @Valid
+    private final ListProperties list = new ListProperties();
+    private final SearchProperties search = new SearchProperties();
+    private final CacheProperties cache = new CacheProperties();
+    @Valid
+    private final BatchProperties batch = new BatchProperties();
+    private final OverdueProperties overdue = new OverdueProperties();
+    private final PasswordProperties password = new PasswordProperties();
+    private final WriteBehindProperties writeBehind = new WriteBehindProperties();
+    private final RateLimitProperties rateLimit = new RateLimitProperties();
+    private final ConcurrencyLimitProperties concurrencyLimit = new ConcurrencyLimitProperties();
+    @Valid
+    private final ExportProperties export = new ExportProperties();
+
+    @Getter
+    @Setter
+    public static class ListProperties {
+        // 목록 전체 개수를 구하는 방식 (작성자/제목으로 거른 목록)
+        private TotalMode totalMode = TotalMode.WINDOW;
+        // 거르지 않은 전체 목록의 개수를 구하는 방식
+        // window 는 count(*) over() 를 구하려고 LIMIT 과 관계없이 조건에 맞는 행을 모두 읽으므로 (전체 목록이면 테이블 전체) 기본은 cached
+        private TotalMode unfilteredTotalMode = TotalMode.CACHED;
+        // cached 모드에서 전체 개수를 캐시에 보관하는 시간
+        private Duration totalCacheTtl = Duration.ofSeconds(30);
+        // cached 모드에서 보관할 검색 조건 수
+        private long totalCacheMaxSize = 1_000;
+        // parallel 모드에서 쿼리 자리를 얻고 목록 + count 쿼리가 끝나기까지 기다리는 최대 시간
+        private Duration parallelTimeout = Duration.ofSeconds(3);
+        // parallel 모드에서 동시에 실행할 수 있는 쿼리 수, 요청 하나가 두 자리를 씀 (자리가 없으면 parallel-timeout 안에서만 대기하고 넘으면 실패)
+        @Min(2)
+        private int parallelMaxConcurrency = 32;
+    }
+
+    @Getter
+    @Setter
+    public static class SearchProperties {
+        // 제목/내용, 작성자 검색에 FULLTEXT(ngram) 인덱스 사용 여부
+        private boolean fullTextEnabled = true;
+        // MySQL ngram_token_size 와 같은 값, 이보다 짧은 검색어는 like 로 검색
+        private int ngramTokenSize = 2;
+    }
+
+    @Getter
+    @Setter
+    public static class CacheProperties {
+        // 단건 조회 캐시에 보관할 최대 일정 수
+        private long byIdMaxSize = 10_000;
+        // 단건 조회 캐시 보관 시간 (수정 경로를 거치지 않은 변경도 이 시간 안에 반영)
+        private Duration byIdTtl = Duration.ofMinutes(10);
+        // email -> author_id 캐시에 보관할 최대 작성자 수
+        private long authorIdMaxSize = 100_000;
+        // email -> author_id 캐시 보관 시간
+        private Duration authorIdTtl = Duration.ofHours(1);
+        // 목록 페이지 응답 캐시 사용 여부
+        private boolean listEnabled = true;
+        // 목록 페이지 캐시에 보관할 최대 페이지 수
+        private long listMaxSize = 1_000;
+        // 목록 페이지 캐시 보관 시간 (쓰기 버전이 바뀌면 이 시간과 관계없이 새로 조회)
+        private Duration listTtl = Duration.ofMinutes(5);
+        // 목록 화면(list.html)을 그린 HTML/gzip 바이트 캐시 사용 여부
+        private boolean listHtmlEnabled = true;
+        // 목록 화면 캐시에 보관할 최대 화면 수
+        private long listHtmlMaxSize = 500;
+        // 목록 화면 캐시 보관 시간 (쓰기 버전이 바뀌면 이 시간과 관계없이 새로 그림)
+        private Duration listHtmlTtl = Duration.ofMinutes(5);
+    }
+
+    @Getter
+    @Setter
+    public static class BatchProperties {
+        // 일괄 등록 시 한 번의 JDBC 배치로 보낼 행 수
+        @Min(1)
+        private int size = 1_000;
+        // 한 번의 일괄 등록 요청에 담을 수 있는 최대 일정 수, 넘으면 400 (비밀번호 해시에 행마다 수십 ms 가 듦)
+        @Min(1)
+        private int maxItems = 5_000;
+    }
+
+    @Getter
+    @Setter
+    public static class OverdueProperties {
+        // 자정 overdue 갱신 시 한 번의 update 로 바꿀 최대 행 수 (update 하나가 잡는 행 잠금의 상한)
+        private int refreshBatchSize = 1_000;
+        // overdue 갱신 배치 사이에 쉬는 시간, 다른 쓰기 요청이 잠금을 얻을 틈을 줌
+        private Duration refreshBatchPause = Duration.ofMillis(50);
+    }
+
+    @Getter
+    @Setter
+    public static class PasswordProperties {
+        // BCrypt cost (2^strength 회 반복), 1 올릴 때마다 해시/검증 시간이 두 배 (PasswordHashBenchmark 로 측정)
+        private int bcryptStrength = 10;
+        // 수정 페이지 진입 시 비밀번호 확인 후 발급하는 토큰의 유효 시간
+        private Duration verificationTtl = Duration.ofMinutes(15);
+        // 동시에 보관할 최대 토큰 수
+        private long verificationMaxSize = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class WriteBehindProperties {
+        // 완료 처리/수정을 대기열에 모았다가 일괄 반영 (false 면 요청마다 바로 DB 에 반영)
+        private boolean enabled = false;
+        // 대기열에 보관할 최대 일정 수, 가득 차면 요청한 스레드가 먼저 반영(flush)한 뒤 추가
+        private int capacity = 10_000;
+        // 대기열을 DB 에 반영하는 주기
+        private Duration flushInterval = Duration.ofMillis(200);
+        // 대기 중인 일정이 이 수에 이르면 주기를 기다리지 않고 반영, 한 번의 JDBC 배치로 보내는 행 수
+        private int flushBatchSize = 500;
+        // 반영 전 변경 내용을 기록하는 저널 파일 (재시작 시 남은 변경을 다시 반영)
+        private String journalPath = "data/todo-write-behind.journal";
+        // 응답 전에 저널을 디스크에 동기화(fsync, 동시에 들어온 기록은 한 번으로 묶음), false 면 OS 장애 시 마지막 변경 일부를 잃을 수 있음
+        private boolean journalFsync = true;
+        // 대기열이 비지 않은 채 저널이 이 크기를 넘으면 대기 중인 변경만 남겨 다시 씀
+        private DataSize journalCompactSize = DataSize.ofMegabytes(8);
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimitProperties {
+        // 클라이언트(IP)별 요청 수 제한 사용 여부, 넘으면 429
+        private boolean enabled = true;
+        // 클라이언트마다 초당 채워지는 요청 수
+        private double requestsPerSecond = 20;
+        // 한 번에 몰아서 보낼 수 있는 최대 요청 수 (버킷 크기)
+        private int burst = 40;
+        // 동시에 추적할 최대 클라이언트 수
+        private long maxClients = 100_000;
+        // 이 시간 동안 요청이 없던 클라이언트의 버킷은 제거
+        private Duration clientIdleTtl = Duration.ofMinutes(10);
+    }
+
+    @Getter
+    @Setter
+    public static class ConcurrencyLimitProperties {
+        // 동시 처리 요청 수 제한 사용 여부, 넘으면 대기하지 않고 503
+        private boolean enabled = true;
+        // 시작 시 동시 처리 한도, 이후 응답 시간에 따라 min-limit ~ max-limit 사이에서 조정
+        private int initialLimit = 20;
+        private int minLimit = 4;
+        private int maxLimit = 200;
+        // 이 배수 * 한도 만큼 요청을 처리할 때마다 무부하 응답 시간을 다시 측정
+        private int probeMultiplier = 30;
+    }
+
+    @Getter
+    @Setter
+    public static class ExportProperties {
+        // 동시에 진행할 수 있는 내보내기 수, 넘으면 대기하지 않고 503
+        // 내보내기 하나는 클라이언트가 응답을 다 읽을 때까지 커넥션 풀(hikari maximum-pool-size)의 커넥션 하나를 점유하므로 풀 크기보다 충분히 작게 둠
+        @Min(1)
+        private int maxConcurrent = 2;
+    }
+
+    public enum TotalMode {
+        WINDOW, // 목록 쿼리에 count(*) over() 를 붙여 정확한 개수를 한 번에 조회 (조건에 맞는 행을 모두 읽음)
+        CACHED, // 목록 쿼리만 실행하고 캐시된(근사) 개수를 사용
+        PARALLEL // 목록 쿼리와 count 쿼리를 동시에 실행해 정확한 개수를 사용
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.todo.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 캐시 적중/실패/제거 통계 조회
+ * 캐시 크기와 보관 시간을 정할 때 참고합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/cache")
+public class CacheStatsController {
+    private final CacheManager cacheManager;
+
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Map<String, Object>>> getStats() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            if (!(cacheManager.getCache(name) instanceof CaffeineCache cache)) {
+                continue;
+            }
+            CacheStats stats = cache.getNativeCache().stats();
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("size", cache.getNativeCache().estimatedSize());
+            values.put("hitCount", stats.hitCount());
+            values.put("missCount", stats.missCount());
+            values.put("hitRate", stats.hitRate());
+            values.put("evictionCount", stats.evictionCount());
+            result.put(name, values);
+        }
+        return ResponseEntity.ok(result);
+    }
+}
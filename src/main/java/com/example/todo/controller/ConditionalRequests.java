@@ -0,0 +1,52 @@
+package com.example.todo.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 GET(If-None-Match / If-Modified-Since) 응답에 쓰는 검증 값
+ * 화면 ETag 에는 애플리케이션 시작 시각을 붙여, 재시작(배포)으로 템플릿이 바뀌었거나
+ * 메모리의 쓰기 버전이 0부터 다시 시작해도 이전 실행에서 받은 ETag 와 겹치지 않게 합니다.
+ */
+final class ConditionalRequests {
+
+    private static final String STARTED = Long.toString(System.currentTimeMillis(), 36);
+    // 브라우저가 저장한 응답을 쓰기 전에 항상 검증 요청을 보내도록 함 (Last-Modified 기준 추정 만료로 오래된 화면을 보이지 않게)
+    private static final String REVALIDATE = CacheControl.noCache().getHeaderValue();
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * 목록 ETag (약한 ETag, 같은 URL 에서 쓰기 버전이 같으면 같은 목록)
+     */
+    static String listETag(long listVersion) {
+        return "W/\"" + STARTED + "-" + listVersion + "\"";
+    }
+
+    /**
+     * 단건 화면 ETag (약한 ETag, 일정 ID와 수정 버전)
+     */
+    static String pageETag(int id, int version) {
+        return "W/\"" + STARTED + "-" + id + "-" + version + "\"";
+    }
+
+    /**
+     * Last-Modified 값 (ms), 수정 시각이 없으면 -1 (헤더를 쓰지 않음)
+     */
+    static long lastModified(LocalDateTime updatedAt) {
+        return updatedAt != null ? updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+
+    static CacheControl revalidate() {
+        return CacheControl.noCache();
+    }
+
+    static void revalidate(HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+    }
+}
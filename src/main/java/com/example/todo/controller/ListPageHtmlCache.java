@@ -0,0 +1,158 @@
+package com.example.todo.controller;
+
+import com.example.todo.config.CacheConfig;
+import com.example.todo.config.TodoProperties;
+import com.example.todo.dto.PageRequestDto;
+import com.example.todo.limit.RequestLimitFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.ui.Model;
+import org.springframework.web.servlet.View;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.thymeleaf.spring6.view.ThymeleafViewResolver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Enumeration;
+import java.util.Objects;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 목록 화면(list.html)을 그린 결과를 보관하는 캐시
+ * 쓰기 버전, 페이지, 검색 조건이 같으면 누가 보든 같은 화면이므로 한 번 그린 HTML 과 gzip 으로 압축한 바이트를 함께 보관하고,
+ * 다음 요청부터는 조회/템플릿 처리 없이 보관한 바이트를 그대로 내려줍니다.
+ * 키에 쓰기 버전이 들어 있어 일정이 바뀌면 이전 화면은 더 이상 조회되지 않고 todo.cache.list-html-ttl 뒤에 사라집니다.
+ */
+@Component
+class ListPageHtmlCache {
+
+    private static final String GZIP = "gzip";
+
+    private final Cache htmlCache;
+    private final ThymeleafViewResolver viewResolver;
+    private final boolean enabled;
+
+    ListPageHtmlCache(CacheManager cacheManager, ThymeleafViewResolver viewResolver, TodoProperties todoProperties) {
+        this.htmlCache = cacheManager.getCache(CacheConfig.LIST_HTML);
+        this.viewResolver = viewResolver;
+        this.enabled = todoProperties.getCache().isListHtmlEnabled();
+    }
+
+    /**
+     * 캐시 키, 캐시를 쓰지 않는 요청이면 null
+     * 세션이 있는 요청은 화면의 링크에 세션 ID 가 붙을 수 있어 캐시하지 않습니다.
+     */
+    Key key(long listVersion, PageRequestDto pageRequestDto, String searchType, String query, HttpServletRequest request) {
+        if (!enabled || request.getSession(false) != null) {
+            return null;
+        }
+        // authorName 은 화면에 쓰이지 않고 조회 조건으로만 쓰이므로 서비스의 목록 캐시 키(ListPageKey)처럼 앞뒤 공백을 없앰
+        String authorName = pageRequestDto.getAuthorName();
+        return new Key(listVersion, pageRequestDto.getPage(), pageRequestDto.getSize(),
+                Objects.toString(searchType, ""), Objects.toString(query, ""), authorName == null ? "" : authorName.trim());
+    }
+
+    /**
+     * 보관한 화면이 있으면 응답에 씀
+     *
+     * @return 캐시에서 응답했으면 true
+     */
+    boolean serve(Key key, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (key == null) {
+            return false;
+        }
+        RenderedPage page = htmlCache.get(key, RenderedPage.class);
+        if (page == null) {
+            return false;
+        }
+        write(page, request, response);
+        // 조회/템플릿 처리 없이 응답했으므로 동시 처리 한도의 응답 시간 표본에서 뺌
+        RequestLimitFilter.markServedFromCache(request);
+        return true;
+    }
+
+    /**
+     * 화면을 그려 보관한 뒤 응답에 씀
+     * 같은 키를 여러 요청이 동시에 그릴 수 있지만, Cache.get(key, loader) 는 ConcurrentHashMap 의 synchronized 구간 안에서
+     * 템플릿을 처리해 가상 스레드를 캐리어에 고정하므로 쓰지 않고, 나중에 그린 결과로 덮어씁니다.
+     *
+     * @return 컨트롤러가 돌려줄 뷰 이름, 이미 응답했으면 null
+     */
+    String render(Key key, String viewName, Model model, HttpServletRequest request, HttpServletResponse response) throws Exception {
+        if (key == null) {
+            return viewName;
+        }
+        View view = viewResolver.resolveViewName(viewName, request.getLocale());
+        // 템플릿 출력은 버퍼에만 쓰고, 원래 응답에는 아래 write 에서 한 번 씀
+        ContentCachingResponseWrapper buffer = new ContentCachingResponseWrapper(response);
+        view.render(model.asMap(), request, buffer);
+
+        byte[] html = buffer.getContentAsByteArray();
+        RenderedPage page = new RenderedPage(html, gzip(html), buffer.getContentType());
+        htmlCache.put(key, page);
+        write(page, request, response);
+        return null;
+    }
+
+    private void write(RenderedPage page, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        byte[] body = page.html();
+        response.setContentType(page.contentType());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(request)) {
+            // 이미 압축된 응답이므로 server.compression 은 다시 압축하지 않음
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+            body = page.gzip();
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private boolean acceptsGzip(HttpServletRequest request) {
+        Enumeration<String> headers = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+        while (headers.hasMoreElements()) {
+            for (String coding : headers.nextElement().split(",")) {
+                String[] parts = coding.trim().split(";");
+                if (GZIP.equalsIgnoreCase(parts[0].trim())) {
+                    // gzip;q=0 은 받지 않겠다는 뜻
+                    return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 한 번 압축해 여러 번 내려주므로 압축률이 가장 높은 단계를 사용
+     */
+    private static byte[] gzip(byte[] html) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(html.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(html);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 목록 화면 캐시 키 (검색어는 입력창/페이지 링크에 그대로 들어가므로 다듬지 않음)
+     */
+    record Key(long version, int page, int size, String searchType, String query, String authorName) {
+    }
+
+    /**
+     * 그린 화면 (원본 HTML, gzip 압축본, Content-Type)
+     */
+    private record RenderedPage(byte[] html, byte[] gzip, String contentType) {
+    }
+}
@@ -1,26 +1,119 @@
 package com.example.todo.controller;
+import com.example.todo.dto.CompletionRequestDto;
+import com.example.todo.dto.PageRequestDto;
 import com.example.todo.dto.TodoRequestDto;
 import com.example.todo.dto.TodoResponseDto;
+import com.example.todo.exception.ExportLimitExceededException;
 import com.example.todo.exception.PasswordException;
+import com.example.todo.exception.TodoConflictException;
+import com.example.todo.exception.TodoPreconditionFailedException;
+import com.example.todo.exception.ValidationExceptions;
+import com.example.todo.limit.ExportLimiter;
 import com.example.todo.service.TodoService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/todo")
 public class TodoApiController {
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
     private final TodoService todoService;
+    private final ObjectMapper objectMapper;
+    private final ExportLimiter exportLimiter;
+
+
+    /**
+     * 목록 조회 (커서 기반)
+     * 응답의 nextCursor 를 다음 요청의 cursor 파라미터로 넘기면 이어서 조회합니다.
+     * fields(예: id,title,completed)를 주면 항목마다 그 필드만 내려주고, 응답 형식은 Accept 로 고릅니다. (JSON, Smile, CBOR)
+     * If-None-Match 가 현재 목록 ETag(쓰기 버전)와 같으면 조회하지 않고 304 로 응답합니다.
+     */
+    @GetMapping
+    public ResponseEntity<TodoListResponse> getList(@Valid PageRequestDto pageRequestDto,
+                                                    @RequestParam(required = false) String fields, WebRequest webRequest) {
+        Set<TodoListField> selectedFields = TodoListField.parse(fields);
+        String etag = ConditionalRequests.listETag(todoService.getListVersion());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(ConditionalRequests.revalidate())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(new TodoListResponse(todoService.getListByCursor(pageRequestDto), selectedFields));
+    }
 
+    /**
+     * 전체 일정 내보내기 (format=ndjson 기본, csv)
+     * DB 에서 한 행씩 읽는 대로 응답에 써 내려가므로 행 수와 관계없이 메모리 사용량이 일정합니다.
+     * 클라이언트가 응답을 다 읽을 때까지 DB 커넥션 하나를 점유하므로 동시에 todo.export.max-concurrent 건까지만 받고, 넘으면 503 입니다.
+     * 클라이언트가 연결을 끊은 것은 버퍼를 내보내다 쓰기가 실패할 때 알 수 있고, 그때 진행 중인 쿼리를 취소합니다.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format) {
+        TodoExportFormat exportFormat = TodoExportFormat.from(format);
+        if (!exportLimiter.tryAcquire()) {
+            throw new ExportLimitExceededException("진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        StreamingResponseBody body = outputStream -> {
+            try {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+                exportFormat.writeHeader(writer);
+                try {
+                    todoService.exportTodos(todo -> {
+                        try {
+                            exportFormat.writeRow(writer, todo, objectMapper);
+                        } catch (IOException e) {
+                            // 클라이언트가 연결을 끊으면 조회를 중단 (streamAll 이 쿼리를 취소)
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                writer.flush();
+            } finally {
+                exportLimiter.release();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
 
-    //단건 조회
+    //단건 조회, ETag 로 수정 버전을, Last-Modified 로 수정 시각을 내려줌
+    //If-None-Match/If-Modified-Since 가 같으면 본문 없이 304 (조회는 단건 캐시에서 읽음)
     @GetMapping("/{id}")
     public ResponseEntity<TodoResponseDto> findById(@PathVariable int id) {
         TodoResponseDto todo = todoService.findById(id);
-        return ResponseEntity.ok(todo);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(String.valueOf(todo.getVersion()))
+                .cacheControl(ConditionalRequests.revalidate());
+        long lastModified = ConditionalRequests.lastModified(todo.getUpdatedAt());
+        if (lastModified >= 0) {
+            response.lastModified(lastModified);
+        }
+        return response.body(todo);
     }
 
     //등록
@@ -30,12 +123,47 @@ public class TodoApiController {
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body("일정이 성공적으로 추가되었습니다." + requestDto.toString());
     }
+    //일괄 등록
+    @PostMapping("/batch")
+    //각 일정은 단건 등록과 같은 규칙으로 검증하고, 하나라도 틀리면 400 (todo.batch.max-items 건을 넘어도 400)
+    public ResponseEntity<List<Integer>> registerTodoListBatch(@RequestBody List<@Valid TodoRequestDto> requestDtos) {
+        List<Integer> todoIds = todoService.registerTodoListBatch(requestDtos);
+        return ResponseEntity.status(HttpStatus.CREATED).body(todoIds);
+    }
     //수정
+    //If-Match 에 조회 때 받은 ETag 를 넣으면 그 사이 다른 수정이 있었을 때 412, 본문의 version 으로 검사하면 409
+    //If-Match 형식이 틀리면 400, 이미 삭제된 일정이면 404
     @PutMapping("/{id}")
-    public ResponseEntity<String> updateTodoList(@PathVariable int id, @ModelAttribute TodoRequestDto requestDto) {
-        todoService.updateTodoList(id, requestDto);
+    public ResponseEntity<String> updateTodoList(@PathVariable int id, @ModelAttribute TodoRequestDto requestDto,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Integer version = parseVersion(ifMatch);
+        if (version != null) {
+            requestDto.setVersion(version);
+        }
+        try {
+            todoService.updateTodoList(id, requestDto);
+        } catch (TodoConflictException e) {
+            if (version != null) {
+                throw new TodoPreconditionFailedException(e.getMessage());
+            }
+            throw e;
+        }
         return ResponseEntity.ok("일정이 수정되었습니다" );
     }
+    //완료 상태 반전 (삭제와 같이 본문의 password 로 확인)
+    @PatchMapping("/{id}/completed")
+    public ResponseEntity<Map<String, Boolean>> completedTodo(@PathVariable int id, @RequestBody Map<String, String> request) {
+        boolean completed = todoService.completedTodo(id, request.get("password"));
+        return ResponseEntity.ok(Map.of("completed", completed));
+    }
+
+    //여러 일정 완료 상태 변경 (최대 50건, 모든 일정의 비밀번호가 password 와 같아야 함)
+    @PatchMapping("/completed")
+    public ResponseEntity<Map<String, Integer>> completedTodos(@Valid @RequestBody CompletionRequestDto requestDto) {
+        int rows = todoService.completedTodos(requestDto.getIds(), requestDto.getCompleted(), requestDto.getPassword());
+        return ResponseEntity.ok(Map.of("updated", rows));
+    }
+
     /**
      * 일정 삭제 처리
      */
@@ -49,8 +177,6 @@ public class TodoApiController {
     //비밀번호 체크
     @PostMapping("/check-password/{id}")
     public ResponseEntity<String> checkPassword(@PathVariable int id, @RequestBody Map<String, String> request) {
-        System.out.println("checkPassword 호출됨. ID: " + id);
-        System.out.println("요청 바디: " + request);
         String password = request.get("password");
 
         if (password == null) {
@@ -66,4 +192,24 @@ public class TodoApiController {
 
 
     }
+
+    /**
+     * If-Match 헤더 값("3", W/"3")에서 버전 추출
+     * 헤더가 없거나 * 이면 null (서버에서 읽은 버전으로 충돌 검사)
+     */
+    private Integer parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ValidationExceptions("If-Match 값이 올바르지 않습니다: " + ifMatch);
+        }
+    }
 }
@@ -2,9 +2,14 @@ package com.example.todo.controller;
 
 import com.example.todo.dto.PageRequestDto;
 import com.example.todo.dto.PageResponseDto;
+import com.example.todo.dto.TodoListItemDto;
 import com.example.todo.dto.TodoRequestDto;
 import com.example.todo.dto.TodoResponseDto;
+import com.example.todo.exception.PasswordException;
+import com.example.todo.exception.TodoConflictException;
 import com.example.todo.service.TodoService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -12,6 +17,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 
 import java.io.UnsupportedEncodingException;
@@ -24,15 +30,24 @@ import java.util.List;
 @RequestMapping("/todo")
 public class TodoController {
     private final TodoService todoService;
+    private final ListPageHtmlCache listPageHtmlCache;
 
     /**
      * 모든 일정 조회 list.html
+     * 같은 URL 에서 받은 ETag 의 쓰기 버전이 그대로면 목록을 조회하지 않고 304 로 응답합니다.
+     * 같은 쓰기 버전/페이지/검색 조건으로 그린 화면이 있으면 조회/템플릿 처리 없이 그 HTML(gzip)을 응답합니다.
      */
     @GetMapping
     public String getList(@Valid PageRequestDto pageRequestDto,
                           @RequestParam(value = "searchType", required = false) String searchType,
                           @RequestParam(value = "query", required = false) String query,
-                          BindingResult bindingResult, Model model) {
+                          BindingResult bindingResult, Model model,
+                          WebRequest webRequest, HttpServletRequest request, HttpServletResponse response) throws Exception {
+        long listVersion = todoService.getListVersion();
+        if (webRequest.checkNotModified(ConditionalRequests.listETag(listVersion))) {
+            return null;
+        }
+        ConditionalRequests.revalidate(response);
 
         log.info("페이지 요청: {}", pageRequestDto);
         log.info("검색 유형: {}", searchType);  // 💡 로그 추가
@@ -40,10 +55,14 @@ public class TodoController {
         if (bindingResult.hasErrors()) {
             pageRequestDto = PageRequestDto.builder().build();
         }
+        ListPageHtmlCache.Key cacheKey = listPageHtmlCache.key(listVersion, pageRequestDto, searchType, query, request);
+        if (listPageHtmlCache.serve(cacheKey, request, response)) {
+            return null;
+        }
         //조회가안되길래 이거 추가
         if ((searchType == null || searchType.isEmpty()) && (query == null || query.trim().isEmpty())) {
             log.info("검색어가 없다..");
-            PageResponseDto<TodoRequestDto> responseDto = todoService.getList(pageRequestDto);
+            PageResponseDto<TodoListItemDto> responseDto = todoService.getList(pageRequestDto);
 
             model.addAttribute("responseDTO", responseDto.getDtoList());
             model.addAttribute("currentPage", responseDto.getPage());
@@ -53,9 +72,9 @@ public class TodoController {
             model.addAttribute("startPage", responseDto.getStart());
             model.addAttribute("prev", responseDto.isPrev());
             model.addAttribute("next", responseDto.isNext());
+            model.addAttribute("end", responseDto.getEnd());
 
-
-            return "list";
+            return listPageHtmlCache.render(cacheKey, "list", model, request, response);
         }
 
         //  검색 유형  검색어 설정
@@ -73,7 +92,7 @@ public class TodoController {
         }
 
         // 서비스에서 검색 결과 가져오기
-        PageResponseDto<TodoRequestDto> responseDto;
+        PageResponseDto<TodoListItemDto> responseDto;
 
         if ("authorName".equalsIgnoreCase(searchType)) {
             responseDto = todoService.searchByAuthor(pageRequestDto);
@@ -96,15 +115,21 @@ public class TodoController {
         model.addAttribute("query", query);
         model.addAttribute("end",responseDto.getEnd());
         log.info("검색 결과 페이지로 이동합니다. 데이터 개수: ", responseDto.getDtoList().size());
-        return "list";
+        return listPageHtmlCache.render(cacheKey, "list", model, request, response);
     }
     /**
      * GET ID로 단건 조회 페이지
      * 특정 ID에 해당하는 일정 정보를 조회해 read.html로 반환
+     * 일정의 수정 버전/수정 시각이 브라우저가 가진 것과 같으면 다시 그리지 않고 304 로 응답합니다.
      */
     @GetMapping("/read")
-    public String readTodo(@RequestParam int id, Model model) {
+    public String readTodo(@RequestParam int id, Model model, WebRequest webRequest, HttpServletResponse response) {
         TodoResponseDto todo = todoService.findById(id);
+        if (webRequest.checkNotModified(ConditionalRequests.pageETag(id, todo.getVersion()),
+                ConditionalRequests.lastModified(todo.getUpdatedAt()))) {
+            return null;
+        }
+        ConditionalRequests.revalidate(response);
         model.addAttribute("todo", todo);
         return "read";
     }
@@ -147,9 +172,9 @@ public class TodoController {
 * */
     @GetMapping("/update/{id}")
     public String updateTodoList(@PathVariable int id, @RequestParam String password, Model model) {
-        // 비밀번호 확인 로직 추가
-        boolean passwordVerified = todoService.checkPassword(id, password);
-        if (!passwordVerified) {
+        // 비밀번호 확인 후 저장(POST) 때 쓸 토큰 발급
+        String verificationToken = todoService.issueUpdateToken(id, password);
+        if (verificationToken == null) {
             model.addAttribute("errorMessage", "비밀번호가 일치하지 않습니다.");
             return "redirect:/todo/" + id;  // 비밀번호가 틀리면 상세 페이지로 리다이렉트
         }
@@ -157,19 +182,44 @@ public class TodoController {
         // 비밀번호가 맞으면 수정 페이지로 이동
         TodoResponseDto todo = todoService.findById(id);
         model.addAttribute("todo", todo);
+        model.addAttribute("verificationToken", verificationToken);
         return "update";
     }
 
     /*
     * POST 일정 수정
     * 수정된 정보를 저장하고 목록으로 리다이렉트
+    * 충돌하거나 비밀번호(토큰)가 맞지 않으면 입력한 내용을 그대로 둔 수정 페이지를 다시 보여줌
     * */
     @PostMapping("/update/{id}")
-    public String updateTodoList(@PathVariable int id, @ModelAttribute TodoRequestDto requestDto) {
-        todoService.updateTodoList(id, requestDto);
+    public String updateTodoList(@PathVariable int id, @ModelAttribute TodoRequestDto requestDto, Model model) {
+        try {
+            todoService.updateTodoList(id, requestDto);
+        } catch (TodoConflictException e) {
+            // 현재 버전으로 다시 보여줘서 확인 후 저장하면 덮어쓸 수 있게 함
+            return updateFormWithInput(id, requestDto, null, "다른 사용자가 먼저 수정했습니다. 입력한 내용을 확인하고 다시 저장해 주세요.", model);
+        } catch (PasswordException e) {
+            return updateFormWithInput(id, requestDto, requestDto.getVersion(), "비밀번호가 일치하지 않습니다. 비밀번호를 입력하고 다시 저장해 주세요.", model);
+        }
         return "redirect:/todo";  // 목록으로 리다이렉트
     }
 
+    private String updateFormWithInput(int id, TodoRequestDto requestDto, Integer version, String errorMessage, Model model) {
+        TodoResponseDto todo = todoService.findById(id);
+        todo.setTitle(requestDto.getTitle());
+        todo.setDescription(requestDto.getDescription());
+        todo.setDueDate(requestDto.getDueDate());
+        todo.setCompleted(requestDto.isCompleted());
+        if (version != null) {
+            todo.setVersion(version);
+        }
+        model.addAttribute("todo", todo);
+        // 반영되지 않은 수정의 토큰은 되돌려 두었으므로 유효 시간 안이면 그대로 다시 사용
+        model.addAttribute("verificationToken", requestDto.getVerificationToken());
+        model.addAttribute("errorMessage", errorMessage);
+        return "update";
+    }
+
     //삭제처리
     @PostMapping("/{id}/delete")
     public String deleteTodoList(@PathVariable int id, @RequestParam String password) {
@@ -0,0 +1,99 @@
+package com.example.todo.controller;
+
+import com.example.todo.dto.TodoResponseDto;
+import com.example.todo.exception.UnsupportedExportFormatException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 일정 내보내기 형식 (GET /api/todo/export?format=ndjson|csv)
+ */
+enum TodoExportFormat {
+
+    // 한 줄에 JSON 객체 하나
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson") {
+        @Override
+        void writeHeader(Writer writer) {
+        }
+
+        @Override
+        void writeRow(Writer writer, TodoResponseDto todo, ObjectMapper objectMapper) throws IOException {
+            writer.write(objectMapper.writeValueAsString(todo));
+            writer.write('\n');
+        }
+    },
+
+    // RFC 4180 CSV, 첫 줄은 컬럼 이름
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv") {
+        @Override
+        void writeHeader(Writer writer) throws IOException {
+            writer.write("id,title,description,dueDate,completed,createdAt,updatedAt,authorName,version\r\n");
+        }
+
+        @Override
+        void writeRow(Writer writer, TodoResponseDto todo, ObjectMapper objectMapper) throws IOException {
+            writer.write(String.valueOf(todo.getId()));
+            writer.write(',');
+            writer.write(escape(todo.getTitle()));
+            writer.write(',');
+            writer.write(escape(todo.getDescription()));
+            writer.write(',');
+            writer.write(todo.getDueDate() != null ? todo.getDueDate().toString() : "");
+            writer.write(',');
+            writer.write(String.valueOf(todo.isCompleted()));
+            writer.write(',');
+            writer.write(todo.getCreatedAt() != null ? todo.getCreatedAt().toString() : "");
+            writer.write(',');
+            writer.write(todo.getUpdatedAt() != null ? todo.getUpdatedAt().toString() : "");
+            writer.write(',');
+            writer.write(escape(todo.getAuthorName()));
+            writer.write(',');
+            writer.write(String.valueOf(todo.getVersion()));
+            writer.write("\r\n");
+        }
+
+        // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 안의 따옴표는 두 번 씀
+        private String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    };
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    TodoExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    MediaType getMediaType() {
+        return mediaType;
+    }
+
+    String getExtension() {
+        return extension;
+    }
+
+    abstract void writeHeader(Writer writer) throws IOException;
+
+    abstract void writeRow(Writer writer, TodoResponseDto todo, ObjectMapper objectMapper) throws IOException;
+
+    static TodoExportFormat from(String format) {
+        for (TodoExportFormat exportFormat : values()) {
+            if (exportFormat.extension.equalsIgnoreCase(format)) {
+                return exportFormat;
+            }
+        }
+        throw new UnsupportedExportFormatException("지원하지 않는 내보내기 형식입니다: " + format + " (ndjson, csv)");
+    }
+}
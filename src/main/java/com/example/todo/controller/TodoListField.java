@@ -0,0 +1,90 @@
+package com.example.todo.controller;
+
+import com.example.todo.dto.TodoListItemDto;
+import com.example.todo.exception.UnsupportedFieldException;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 목록 API 항목에서 고를 수 있는 필드 (GET /api/todo?fields=id,title,completed)
+ */
+enum TodoListField {
+
+    ID("id") {
+        @Override
+        void write(JsonGenerator generator, TodoListItemDto item) throws IOException {
+            generator.writeNumberField(getName(), item.getId());
+        }
+    },
+    TITLE("title") {
+        @Override
+        void write(JsonGenerator generator, TodoListItemDto item) throws IOException {
+            generator.writeStringField(getName(), item.getTitle());
+        }
+    },
+    COMPLETED("completed") {
+        @Override
+        void write(JsonGenerator generator, TodoListItemDto item) throws IOException {
+            generator.writeBooleanField(getName(), item.isCompleted());
+        }
+    },
+    DUE_DATE("dueDate") {
+        @Override
+        void write(JsonGenerator generator, TodoListItemDto item) throws IOException {
+            // ObjectMapper 기본 설정과 같은 ISO 형식 (yyyy-MM-dd)
+            generator.writeStringField(getName(), item.getDueDate() != null ? item.getDueDate().toString() : null);
+        }
+    },
+    AUTHOR_NAME("authorName") {
+        @Override
+        void write(JsonGenerator generator, TodoListItemDto item) throws IOException {
+            generator.writeStringField(getName(), item.getAuthorName());
+        }
+    };
+
+    private final String fieldName;
+
+    TodoListField(String name) {
+        this.fieldName = name;
+    }
+
+    String getName() {
+        return fieldName;
+    }
+
+    abstract void write(JsonGenerator generator, TodoListItemDto item) throws IOException;
+
+    /**
+     * 쉼표로 구분한 필드 이름을 읽음, 비어 있으면 전체 필드
+     * 응답에는 요청한 순서와 관계없이 이 enum 의 순서로 씁니다.
+     *
+     * @throws UnsupportedFieldException 없는 필드 이름이 있는 경우
+     */
+    static Set<TodoListField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.allOf(TodoListField.class);
+        }
+        Set<TodoListField> selected = EnumSet.noneOf(TodoListField.class);
+        for (String name : fields.split(",")) {
+            if (!name.isBlank()) {
+                selected.add(from(name.trim()));
+            }
+        }
+        return selected.isEmpty() ? EnumSet.allOf(TodoListField.class) : selected;
+    }
+
+    private static TodoListField from(String name) {
+        for (TodoListField field : values()) {
+            if (field.fieldName.equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+        throw new UnsupportedFieldException("지원하지 않는 필드입니다: " + name + " ("
+                + Arrays.stream(values()).map(TodoListField::getName).collect(Collectors.joining(", ")) + ")");
+    }
+}
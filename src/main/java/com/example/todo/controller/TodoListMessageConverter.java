@@ -0,0 +1,89 @@
+package com.example.todo.controller;
+
+import com.example.todo.dto.PageResponseDto;
+import com.example.todo.dto.TodoListItemDto;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+
+/**
+ * 목록 API 응답(TodoListResponse)을 JsonGenerator 로 출력 스트림에 바로 씀
+ * 항목마다 요청한 필드만 쓰고, Accept 에 따라 JSON, Smile, CBOR 중 하나로 인코딩합니다.
+ * 스프링 부트가 HttpMessageConverter 빈을 기본 Jackson 변환기보다 앞에 등록하므로 이 응답 타입은 여기서만 씁니다.
+ */
+@Component
+class TodoListMessageConverter extends AbstractHttpMessageConverter<TodoListResponse> {
+
+    static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final JsonFactory jsonFactory;
+    private final SmileFactory smileFactory = new SmileFactory();
+    private final CBORFactory cborFactory = new CBORFactory();
+
+    TodoListMessageConverter(ObjectMapper objectMapper) {
+        // 앞에 있는 형식이 Accept: */* 일 때의 기본 형식
+        super(MediaType.APPLICATION_JSON, APPLICATION_SMILE, MediaType.APPLICATION_CBOR);
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return TodoListResponse.class == clazz;
+    }
+
+    // 응답 전용
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected TodoListResponse readInternal(Class<? extends TodoListResponse> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("목록 응답은 읽을 수 없습니다", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(TodoListResponse response, HttpOutputMessage outputMessage) throws IOException {
+        PageResponseDto<TodoListItemDto> page = response.page();
+        JsonFactory factory = factoryFor(outputMessage.getHeaders().getContentType());
+        // 응답 스트림은 컨테이너가 닫으므로 generator 를 닫을 때 함께 닫지 않음
+        try (JsonGenerator generator = factory.createGenerator(StreamUtils.nonClosing(outputMessage.getBody()), JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("dtoList");
+            for (TodoListItemDto item : page.getDtoList()) {
+                generator.writeStartObject();
+                for (TodoListField field : response.fields()) {
+                    field.write(generator, item);
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeNumberField("size", page.getSize());
+            generator.writeBooleanField("next", page.isNext());
+            generator.writeStringField("nextCursor", page.getNextCursor());
+            generator.writeEndObject();
+        }
+    }
+
+    private JsonFactory factoryFor(MediaType contentType) {
+        if (contentType != null && APPLICATION_SMILE.isCompatibleWith(contentType)) {
+            return smileFactory;
+        }
+        if (contentType != null && MediaType.APPLICATION_CBOR.isCompatibleWith(contentType)) {
+            return cborFactory;
+        }
+        return jsonFactory;
+    }
+}
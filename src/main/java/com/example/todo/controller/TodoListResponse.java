@@ -0,0 +1,12 @@
+package com.example.todo.controller;
+
+import com.example.todo.dto.PageResponseDto;
+import com.example.todo.dto.TodoListItemDto;
+
+import java.util.Set;
+
+/**
+ * 목록 API 응답 (커서 페이지와 항목마다 쓸 필드), TodoListMessageConverter 가 씀
+ */
+record TodoListResponse(PageResponseDto<TodoListItemDto> page, Set<TodoListField> fields) {
+}
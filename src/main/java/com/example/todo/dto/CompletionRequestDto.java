@@ -0,0 +1,35 @@
+package com.example.todo.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 여러 일정의 완료 상태 변경 요청
+ */
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class CompletionRequestDto {
+    // 일정마다 비밀번호(BCrypt)를 확인하고, 쓰기 지연 대기열에서는 일정마다 저널 기록이 생기므로 개수를 제한
+    @NotEmpty(message = "변경할 일정 ID 는 필수 입력값입니다.")
+    @Size(max = 50, message = "한 번에 변경할 수 있는 일정은 최대 50건입니다.")
+    private List<@NotNull Integer> ids;
+    // 지정하지 않으면 각 일정의 완료 상태를 반전
+    private Boolean completed;
+
+    // 변경할 일정들의 비밀번호 (모든 일정의 비밀번호와 일치해야 함)
+    @ToString.Exclude
+    @NotBlank(message = "비밀번호는 필수 입력값입니다.")
+    private String password;
+}
@@ -50,4 +50,7 @@ public class PageRequestDto {
 
     private String searchType;
     private String query;
+
+    // 커서 기반 페이징용 이어보기 토큰 (첫 페이지는 null)
+    private String cursor;
 }
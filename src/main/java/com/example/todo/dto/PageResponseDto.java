@@ -16,6 +16,7 @@ public class PageResponseDto<E> {
     private int page; // 현재 페이지
     private int size; // 페이지 크기
     private int total; // 전체 데이터 수
+    private boolean approximateTotal; // total 이 캐시된 근사값인지 여부
     private boolean completed = false;
 
     private int start;  //시작 페이지 번호
@@ -27,12 +28,15 @@ public class PageResponseDto<E> {
     private String searchType;
     private String query;
     private List<E> dtoList;
+    // 커서 기반 페이징에서 다음 페이지를 요청할 때 넘길 토큰 (마지막 페이지면 null)
+    private String nextCursor;
 
     @Builder(builderMethodName = "withAll")
-    public PageResponseDto(PageRequestDto pageRequestDto, List<E> dtoList, int total) {
+    public PageResponseDto(PageRequestDto pageRequestDto, List<E> dtoList, int total, boolean approximateTotal) {
         this.page = pageRequestDto.getPage();
         this.size = pageRequestDto.getSize();
         this.total = total;
+        this.approximateTotal = approximateTotal;
         this.dtoList = dtoList;
         // 총 페이지 계산 (전체 데이터 수와 페이지 크기를 이용)
         int last = (int) Math.ceil((double) total / size);
@@ -50,4 +54,16 @@ public class PageResponseDto<E> {
         // 다음 페이지 버튼 활성화 여부
         this.next = total > this.end * this.size;
     }
+
+    /**
+     * 커서 기반 페이징 응답 생성
+     * 전체 개수를 세지 않으므로 total 과 페이지 번호 관련 값은 채우지 않습니다.
+     */
+    @Builder(builderMethodName = "withCursor", builderClassName = "CursorBuilder")
+    public PageResponseDto(PageRequestDto pageRequestDto, List<E> dtoList, String nextCursor) {
+        this.size = pageRequestDto.getSize();
+        this.dtoList = dtoList;
+        this.nextCursor = nextCursor;
+        this.next = nextCursor != null;
+    }
 }
@@ -0,0 +1,65 @@
+package com.example.todo.dto;
+
+import com.example.todo.exception.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서(seek) 기반 페이징에서 사용하는 이어보기 토큰
+ * 마지막으로 내려준 행의 정렬 키 (completed, overdue, dueDate, id) 를 담고,
+ * 클라이언트에는 내용을 알 수 없는 Base64 문자열로 전달합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class TodoCursor {
+    // 마감일이 없는 일정을 토큰에 담을 때 쓰는 자리표시 날짜 (복원하면 다시 null)
+    public static final LocalDate NULL_DUE_DATE = LocalDate.of(1000, 1, 1);
+
+    private static final String DELIMITER = "|";
+
+    private final boolean completed;
+    private final boolean overdue;
+    private final LocalDate dueDate;
+    private final int id;
+
+    /**
+     * 정렬 키를 토큰 문자열로 변환
+     * @return URL에 그대로 실을 수 있는 토큰
+     */
+    public String encode() {
+        String raw = (completed ? 1 : 0) + DELIMITER
+                + (overdue ? 1 : 0) + DELIMITER
+                + (dueDate != null ? dueDate : NULL_DUE_DATE) + DELIMITER
+                + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 문자열을 정렬 키로 복원
+     * @param token 이전 응답의 nextCursor
+     * @return 복원된 커서
+     * @throws InvalidCursorException 토큰 형식이 올바르지 않은 경우
+     */
+    public static TodoCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 4) {
+                throw new InvalidCursorException("잘못된 커서입니다.");
+            }
+            LocalDate dueDate = LocalDate.parse(parts[2]);
+            return new TodoCursor(
+                    "1".equals(parts[0]),
+                    "1".equals(parts[1]),
+                    NULL_DUE_DATE.equals(dueDate) ? null : dueDate,
+                    Integer.parseInt(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("잘못된 커서입니다.");
+        }
+    }
+}
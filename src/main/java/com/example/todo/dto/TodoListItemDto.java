@@ -0,0 +1,27 @@
+package com.example.todo.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/**
+ * 목록 화면/목록 API 의 한 항목
+ * 목록에 보이는 값만 담아 ResultSet 에서 바로 만들고, TodoEntity 나 password, email 은 거치지 않습니다.
+ */
+@ToString
+@Getter
+@AllArgsConstructor
+public class TodoListItemDto {
+    private final int id;
+    private final String title;
+    private final boolean completed;
+    private final LocalDate dueDate;
+    private final String authorName;
+
+    // 목록 정렬 키, 다음 페이지 커서를 만들 때만 쓰고 응답에는 내보내지 않음
+    @JsonIgnore
+    private final boolean overdue;
+}
@@ -21,6 +21,7 @@ public class TodoRequestDto {
 
     private String description;
 
+    @ToString.Exclude
     @NotBlank(message = "비밀번호는 필수 입력값입니다.")
     @Pattern(regexp = "^(?=.*[A-Za-z])(?=.*\\d)[A-Za-z\\d]{8,20}$", message = "비밀번호는 8자 이상 20자 이하의 영문자와 숫자를 포함해야 합니다.")
     private String password;
@@ -35,6 +36,13 @@ public class TodoRequestDto {
 
     @Email(message = "이메일 형식이 올바르지 않습니다.")
     private String email;
+
+    // 수정 요청 시 클라이언트가 읽었던 버전 (If-Match 또는 수정 폼의 hidden 값), 없으면 서버에서 읽은 버전 사용
+    private Integer version;
+
+    // 수정 페이지 진입 시 비밀번호 확인 후 발급된 토큰, 있으면 저장 시 비밀번호를 다시 검증하지 않음
+    @ToString.Exclude
+    private String verificationToken;
     public TodoRequestDto(TodoEntity entity) {
         this.id = entity.getId();
         this.title = entity.getTitle();
@@ -47,6 +55,7 @@ public class TodoRequestDto {
         this.authorId = entity.getAuthorId();
         this.authorName = entity.getAuthorName();
         this.email = entity.getEmail();
+        this.version = entity.getVersion();
 
     }
 
@@ -23,4 +23,5 @@ public class TodoResponseDto {
     private int authorId;
     private String authorName;
     private String email;
+    private int version; // ETag 로 내려가는 수정 버전
 }
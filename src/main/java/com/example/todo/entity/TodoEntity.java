@@ -8,7 +8,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class TodoEntity {
 
     private int id;
@@ -16,9 +16,11 @@ public class TodoEntity {
     private String description;
     private String password;
     private boolean completed = false;
+    private boolean overdue; // 마감 기한 경과 여부 (목록 정렬 키)
     private int authorId; // FK
     private String authorName;
     private String email;
+    private int version; // 낙관적 잠금용, 수정될 때마다 1씩 증가
 
     private LocalDate dueDate = LocalDate.now();
     private LocalDateTime createdAt = LocalDateTime.now();;
@@ -52,4 +54,8 @@ public class TodoEntity {
     public void setCompleted(boolean completed) {
         this.completed = completed;
     }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
 }
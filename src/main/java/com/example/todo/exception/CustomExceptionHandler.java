@@ -1,5 +1,6 @@
 package com.example.todo.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -7,6 +8,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 @RestControllerAdvice
 public class CustomExceptionHandler {
@@ -43,11 +45,77 @@ public class CustomExceptionHandler {
                 .body("비밀번호가 일치하지 않습니다.. "+ e.getMessage());
     }
 
+    //동시 수정 충돌 (낙관적 잠금 실패)
+    @ExceptionHandler(TodoConflictException.class)
+    public ResponseEntity<String> handlerTodoConflictException(TodoConflictException e, WebRequest req) {
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(e.getMessage());
+    }
+
+    //If-Match 의 버전이 현재 버전과 다름
+    @ExceptionHandler(TodoPreconditionFailedException.class)
+    public ResponseEntity<String> handlerTodoPreconditionFailedException(TodoPreconditionFailedException e, WebRequest req) {
+        return ResponseEntity
+                .status(HttpStatus.PRECONDITION_FAILED)
+                .body(e.getMessage());
+    }
+
+    //잘못된 커서 토큰
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<String> handlerInvalidCursorException(InvalidCursorException e, WebRequest req) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(e.getMessage());
+    }
+
+    //목록 조회 fields 에 없는 필드 이름
+    @ExceptionHandler(UnsupportedFieldException.class)
+    public ResponseEntity<String> handlerUnsupportedFieldException(UnsupportedFieldException e, WebRequest req) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(e.getMessage());
+    }
+
+    //지원하지 않는 내보내기 형식
+    @ExceptionHandler(UnsupportedExportFormatException.class)
+    public ResponseEntity<String> handlerUnsupportedExportFormatException(UnsupportedExportFormatException e, WebRequest req) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(e.getMessage());
+    }
+
+    //동시 내보내기 수 초과
+    @ExceptionHandler(ExportLimitExceededException.class)
+    public ResponseEntity<String> handlerExportLimitExceededException(ExportLimitExceededException e, WebRequest req) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "10")
+                .body(e.getMessage());
+    }
+
     @ExceptionHandler(ValidationExceptions.class)
-    public ResponseEntity<String> handlerValidationException(MethodArgumentNotValidException e, WebRequest req) {
+    public ResponseEntity<String> handlerValidationException(ValidationExceptions e, WebRequest req) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(e.getMessage());
+    }
+
+    //요청 본문 검증 실패 (@Valid @RequestBody)
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<String> handlerMethodArgumentNotValidException(MethodArgumentNotValidException e, WebRequest req) {
         String error = e.getBindingResult().getAllErrors().get(0).getDefaultMessage();
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
                 .body(error);
     }
+
+    //요청 본문 목록의 항목 검증 실패 (List<@Valid ...>)
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<String> handlerMethodValidationException(HandlerMethodValidationException e, WebRequest req) {
+        String error = e.getAllErrors().get(0).getDefaultMessage();
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(error);
+    }
 }
@@ -0,0 +1,7 @@
+package com.example.todo.exception;
+
+public class TodoPreconditionFailedException extends RuntimeException {
+    public TodoPreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.todo.limit;
+
+import com.example.todo.config.TodoProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 응답 시간에 따라 한도를 조정하는 동시 처리 요청 수 제한 (TCP Vegas 방식)
+ * 부하가 없을 때의 응답 시간(rttNoLoad)과 현재 응답 시간을 비교해 대기 중인 요청 수를 추정하고,
+ * 추정치가 작으면 한도를 늘리고 크면 줄입니다. 5xx 응답(트랜잭션 시간 초과, 커넥션 풀 대기 초과 등)이 나면 한도를 바로 줄입니다.
+ * 한도를 넘은 요청은 기다리지 않고 거절하므로 DB 커넥션 풀 앞에 요청이 쌓이지 않습니다.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private final TodoProperties.ConcurrencyLimitProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock sampleLock = new ReentrantLock();
+
+    // 요청 스레드가 잠금 없이 읽는 현재 한도
+    private volatile int limit;
+    // 아래 값들은 sampleLock 안에서만 변경
+    private double estimatedLimit;
+    private long rttNoLoadNanos;
+    private long samplesUntilProbe;
+
+    public AdaptiveConcurrencyLimiter(TodoProperties todoProperties, MeterRegistry meterRegistry) {
+        this.properties = todoProperties.getConcurrencyLimit();
+        this.estimatedLimit = properties.getInitialLimit();
+        this.limit = properties.getInitialLimit();
+        this.samplesUntilProbe = nextProbeInterval();
+        meterRegistry.gauge("todo.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit);
+        meterRegistry.gauge("todo.concurrency.in-flight", inFlight);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 처리 중인 요청 수가 한도보다 작으면 자리를 차지
+     * @return 자리를 차지했으면 true (처리가 끝나면 release 를 호출해야 함)
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 자리를 반납하고 처리 결과로 한도를 조정
+     * @param rttNanos 처리 시간
+     * @param dropped  서버 오류(5xx)로 끝났는지 여부
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int inFlightAtRelease = inFlight.getAndDecrement();
+        sampleLock.lock();
+        try {
+            onSample(rttNanos, dropped, inFlightAtRelease);
+        } finally {
+            sampleLock.unlock();
+        }
+    }
+
+    /**
+     * 자리만 반납 (비동기 응답, 304, 캐시 응답처럼 처리 시간이 한도 조정에 맞지 않는 요청)
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    private void onSample(long rttNanos, boolean dropped, int inFlightAtRelease) {
+        // 주기적으로 무부하 응답 시간을 다시 측정해 데이터가 늘어 느려진 기준에 맞춤
+        if (--samplesUntilProbe <= 0) {
+            rttNoLoadNanos = 0;
+            samplesUntilProbe = nextProbeInterval();
+        }
+        if (rttNoLoadNanos == 0 || rttNanos < rttNoLoadNanos) {
+            rttNoLoadNanos = rttNanos;
+            return;
+        }
+
+        double size = estimatedLimit;
+        double log = Math.max(1, Math.log10(size));
+        if (dropped) {
+            size = size - log;
+        } else if (inFlightAtRelease * 2 < estimatedLimit) {
+            // 한도의 절반도 쓰지 않는 동안의 응답 시간으로는 한도를 판단할 수 없음
+            return;
+        } else {
+            // 대기 중인 요청 수 추정 = 한도 * (1 - 무부하 응답 시간 / 현재 응답 시간)
+            double queueSize = Math.ceil(estimatedLimit * (1 - (double) rttNoLoadNanos / rttNanos));
+            if (queueSize <= 3 * log) {
+                size = size + log;
+            } else if (queueSize >= 6 * log) {
+                size = size - log;
+            }
+        }
+        estimatedLimit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), size));
+        limit = (int) estimatedLimit;
+    }
+
+    private long nextProbeInterval() {
+        return (long) properties.getProbeMultiplier() * Math.max(limit, properties.getMinLimit());
+    }
+}
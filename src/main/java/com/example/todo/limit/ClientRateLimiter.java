@@ -0,0 +1,44 @@
+package com.example.todo.limit;
+
+import com.example.todo.config.TodoProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클라이언트(IP)별 요청 수 제한 (토큰 버킷)
+ * 버킷은 Caffeine 캐시에 보관해 todo.rate-limit.client-idle-ttl 동안 요청이 없던 클라이언트는 제거하고,
+ * 추적하는 클라이언트 수는 todo.rate-limit.max-clients 로 제한합니다.
+ */
+@Component
+public class ClientRateLimiter {
+
+    private final TodoProperties.RateLimitProperties properties;
+    private final Cache<String, TokenBucket> buckets;
+
+    public ClientRateLimiter(TodoProperties todoProperties, MeterRegistry meterRegistry) {
+        this.properties = todoProperties.getRateLimit();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxClients())
+                .expireAfterAccess(properties.getClientIdleTtl())
+                .build();
+        meterRegistry.gauge("todo.rate-limit.clients", buckets, Cache::estimatedSize);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 요청 하나를 허용할지 판단
+     * @param clientKey 클라이언트 식별 값 (IP)
+     * @return 허용하면 0, 거절하면 다시 요청할 수 있을 때까지 남은 시간(ns)
+     */
+    public long tryAcquire(String clientKey) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(clientKey,
+                key -> new TokenBucket(properties.getBurst(), properties.getRequestsPerSecond(), now));
+        return bucket.tryConsume(now);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.todo.limit;
+
+import com.example.todo.config.TodoProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * 동시에 진행하는 전체 내보내기 수 제한 (todo.export.max-concurrent)
+ * 내보내기는 응답을 다 쓸 때까지 DB 커넥션 하나를 점유하므로, 느린 클라이언트 여럿이 커넥션 풀을 모두 차지하지 않도록
+ * 자리가 없으면 대기하지 않고 바로 거절합니다. 진행 중인 수는 todo.export.active 로 기록합니다.
+ */
+@Component
+public class ExportLimiter {
+
+    private final int maxConcurrent;
+    private final Semaphore permits;
+
+    public ExportLimiter(TodoProperties todoProperties, MeterRegistry meterRegistry) {
+        this.maxConcurrent = todoProperties.getExport().getMaxConcurrent();
+        this.permits = new Semaphore(maxConcurrent);
+        meterRegistry.gauge("todo.export.active", permits, semaphore -> maxConcurrent - semaphore.availablePermits());
+    }
+
+    /**
+     * 내보내기 자리 하나를 얻음, 얻었으면 내보내기가 끝난 뒤 반드시 release
+     * @return 자리가 없으면 false
+     */
+    public boolean tryAcquire() {
+        return permits.tryAcquire();
+    }
+
+    public void release() {
+        permits.release();
+    }
+}
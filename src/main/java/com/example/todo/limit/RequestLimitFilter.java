@@ -0,0 +1,146 @@
+package com.example.todo.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * /todo, /api/todo 요청 앞에서 과부하를 막는 필터
+ * 클라이언트별 요청 수를 넘으면 429, 동시 처리 요청 수가 한도에 이르면 503 을 바로 돌려주며 대기열에 넣지 않습니다.
+ * 거절 수는 todo.requests.rejected(reason=rate-limit|concurrency-limit) 로 기록합니다.
+ * 내보내기 같은 비동기 응답은 응답이 실제로 끝날 때까지 자리를 차지합니다.
+ * 304 와 캐시에서 바로 쓴 응답은 처리 시간이 지나치게 짧아 무부하 응답 시간 기준을 낮추므로 한도 조정에 쓰지 않습니다.
+ */
+@Log4j2
+public class RequestLimitFilter extends OncePerRequestFilter {
+
+    private static final String SERVED_FROM_CACHE_ATTRIBUTE = RequestLimitFilter.class.getName() + ".SERVED_FROM_CACHE";
+
+    private final ClientRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final Counter rateLimited;
+    private final Counter concurrencyLimited;
+
+    public RequestLimitFilter(ClientRateLimiter rateLimiter, AdaptiveConcurrencyLimiter concurrencyLimiter,
+                              MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.rateLimited = rejectedCounter(meterRegistry, "rate-limit");
+        this.concurrencyLimited = rejectedCounter(meterRegistry, "concurrency-limit");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (rateLimiter.isEnabled()) {
+            long waitNanos = rateLimiter.tryAcquire(request.getRemoteAddr());
+            if (waitNanos > 0) {
+                rateLimited.increment();
+                reject(response, HttpStatus.TOO_MANY_REQUESTS, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999)),
+                        "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+                return;
+            }
+        }
+        if (!concurrencyLimiter.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            concurrencyLimited.increment();
+            log.debug("동시 처리 한도 초과로 거절: {} {} (한도 {})", request.getMethod(), request.getRequestURI(), concurrencyLimiter.getLimit());
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1, "서버가 혼잡합니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        boolean sampled = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= 500;
+            sampled = response.getStatus() != HttpServletResponse.SC_NOT_MODIFIED
+                    && request.getAttribute(SERVED_FROM_CACHE_ATTRIBUTE) == null;
+        } finally {
+            if (request.isAsyncStarted()) {
+                // 내보내기 같은 비동기 응답은 응답이 끝나기 전에 여기로 돌아오므로 끝날 때 반납하고, 처리 시간은 한도 조정에 쓰지 않음
+                request.getAsyncContext().addListener(new ReleaseOnAsyncEnd());
+            } else if (sampled) {
+                concurrencyLimiter.release(System.nanoTime() - start, dropped);
+            } else {
+                concurrencyLimiter.release();
+            }
+        }
+    }
+
+    /**
+     * 캐시에 보관한 응답을 그대로 썼음을 표시 (이 요청의 처리 시간은 한도 조정에 쓰지 않음)
+     */
+    public static void markServedFromCache(HttpServletRequest request) {
+        request.setAttribute(SERVED_FROM_CACHE_ATTRIBUTE, Boolean.TRUE);
+    }
+
+    /**
+     * 비동기 응답이 완료/오류/시간 초과로 끝나면 자리를 한 번만 반납
+     */
+    private class ReleaseOnAsyncEnd implements AsyncListener {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 같은 요청에서 비동기 처리를 다시 시작하면 새 AsyncContext 에도 등록
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                concurrencyLimiter.release();
+            }
+        }
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(message);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("todo.requests.rejected")
+                .description("과부하 보호로 거절한 요청 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
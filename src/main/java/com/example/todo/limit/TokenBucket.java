@@ -0,0 +1,37 @@
+package com.example.todo.limit;
+
+/**
+ * 클라이언트 하나의 토큰 버킷
+ * 요청마다 토큰 하나를 쓰고, 토큰은 초당 refillPerSecond 개씩 capacity 까지 채워집니다.
+ * (잠금 구간에서 I/O 를 하지 않으므로 synchronized 를 써도 가상 스레드가 오래 고정되지 않음)
+ */
+class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final double capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(double capacity, double refillPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / NANOS_PER_SECOND;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * 토큰 하나를 사용
+     * @return 사용했으면 0, 토큰이 없으면 다음 토큰이 채워질 때까지 남은 시간(ns)
+     */
+    synchronized long tryConsume(long nowNanos) {
+        tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = nowNanos;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / refillPerNano);
+    }
+}
@@ -2,7 +2,10 @@ package com.example.todo.repository;
 
 import com.example.todo.entity.AuthorEntity;
 
+import java.util.List;
+
 public interface AuthorRepository {
-    int saveAuthor(AuthorEntity authorEntity);
+    int findOrCreateAuthorId(AuthorEntity authorEntity); //email 이 같은 작성자가 있으면 재사용, email 이 없으면 새로 저장
+    int[] findOrCreateAuthorIds(List<AuthorEntity> authorEntities); //일괄 처리용, 요청 순서대로 author_id 반환
     AuthorEntity findAuthorById(int id);
 }
@@ -1,57 +1,237 @@
 package com.example.todo.repository;
 
+import com.example.todo.config.CacheConfig;
 import com.example.todo.entity.AuthorEntity;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Profile;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Slf4j
+@Profile("!memory")
 @Repository
-@AllArgsConstructor
 public class AuthorRepositoryImpl implements AuthorRepository {
 
 
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    // email(소문자) -> author_id, 이미 있는 작성자는 insert 없이 재사용 (커밋된 작성자만 넣음)
+    private final Cache authorIdByEmailCache;
 
+    public AuthorRepositoryImpl(NamedParameterJdbcTemplate namedParameterJdbcTemplate, CacheManager cacheManager) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.authorIdByEmailCache = cacheManager.getCache(CacheConfig.AUTHOR_ID_BY_EMAIL);
+    }
 
-    @Override
-    public int saveAuthor(AuthorEntity authorEntity) {
-        String authorSql = "insert into author (authorName, email, createdAt, updatedAt) " +
-                "values (:authorName, :email, :createdAt, :updatedAt)";
 
+    private static final String DEFAULT_AUTHOR_NAME = "unknown";
+
+    private static final String INSERT_AUTHOR_SQL = "insert into author (authorName, email, createdAt, updatedAt) " +
+            "values (:authorName, :email, :createdAt, :updatedAt)";
+    // email 이 이미 있으면 새 행을 만들지 않고 기존 author_id 를 생성 키(last_insert_id)로 돌려줌
+    private static final String UPSERT_AUTHOR_SQL = INSERT_AUTHOR_SQL +
+            " on duplicate key update author_id = last_insert_id(author_id)";
+    // 일괄 처리용, 이미 있는 email 은 그대로 두고 id 는 다시 조회
+    private static final String INSERT_IF_ABSENT_AUTHOR_SQL = INSERT_AUTHOR_SQL +
+            " on duplicate key update author_id = author_id";
+
+    private MapSqlParameterSource toInsertParams(AuthorEntity authorEntity) {
         MapSqlParameterSource params = new MapSqlParameterSource();
-        params.addValue("authorName", authorEntity.getAuthorName() != null ? authorEntity.getAuthorName() : "unknown");
-        params.addValue("email", authorEntity.getEmail() != null ? authorEntity.getEmail() : "Noooo-email@example.com");
+        params.addValue("authorName", authorEntity.getAuthorName() != null ? authorEntity.getAuthorName() : DEFAULT_AUTHOR_NAME);
+        params.addValue("email", emailOf(authorEntity));
         params.addValue("createdAt", Timestamp.valueOf(authorEntity.getCreatedAt()));
         params.addValue("updatedAt", Timestamp.valueOf(authorEntity.getUpdatedAt()));
+        return params;
+    }
+
+    /**
+     * 작성자의 email, 없거나 비어 있으면 null (같은 작성자로 합치지 않음)
+     */
+    private String emailOf(AuthorEntity authorEntity) {
+        String email = authorEntity.getEmail();
+        return email != null && !email.isBlank() ? email.trim() : null;
+    }
+
+    private String cacheKey(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * email 로 작성자를 찾고, 없으면 새로 저장
+     * 캐시에 있으면 쿼리 없이 바로 돌려주고, 없으면 upsert 한 번으로 기존/신규 author_id 를 얻습니다.
+     * email 이 없으면 다른 작성자와 합치지 않고 항상 새로 저장합니다.
+     * @param authorEntity 작성자 정보
+     * @return author_id
+     */
+    @Override
+    public int findOrCreateAuthorId(AuthorEntity authorEntity) {
+        String email = emailOf(authorEntity);
+        if (email == null) {
+            return insertAuthors(List.of(authorEntity))[0];
+        }
+        String key = cacheKey(email);
+        Integer cachedId = authorIdByEmailCache.get(key, Integer.class);
+        if (cachedId != null) {
+            return cachedId;
+        }
 
-        //자동 생성 되는 키
         KeyHolder keyHolder = new GeneratedKeyHolder();
         try {
-            int rowsAffected = namedParameterJdbcTemplate.update(authorSql, params, keyHolder, new String[]{"author_id"});
-            Number key = keyHolder.getKey();
-            if (key == null) {
+            namedParameterJdbcTemplate.update(UPSERT_AUTHOR_SQL, toInsertParams(authorEntity), keyHolder, new String[]{"author_id"});
+            // 기존 행을 갱신한 경우에도 last_insert_id(author_id) 가 첫 번째 키로 실려 옴
+            if (keyHolder.getKeyList().isEmpty()) {
                 throw new RuntimeException("Generated Key is null");
             }
-            int generatedId = key.intValue();
-            return generatedId;
+            int authorId = ((Number) keyHolder.getKeyList().get(0).values().iterator().next()).intValue();
+            cacheAfterCommit(Map.of(key, authorId));
+            return authorId;
         } catch (DataAccessException e) {
-            System.err.println("작성자 저장 중에 문제 발생");
-            e.printStackTrace();
+            log.error("작성자 저장 중에 문제 발생: {}", e.getMessage());
             throw new com.example.todo.exception.DataAccessException("작성자 데이터 저장 중에 문제 발생");
         }
+    }
+
+    /**
+     * 여러 작성자를 email 기준으로 찾고, 없는 작성자만 일괄 저장
+     * 같은 email 은 한 번만 저장하며, email 이 없는 작성자는 각각 새로 저장합니다. 결과는 요청 순서대로 author_id 를 담습니다.
+     * @param authorEntities 작성자 목록
+     * @return 요청 순서대로의 author_id
+     */
+    @Override
+    public int[] findOrCreateAuthorIds(List<AuthorEntity> authorEntities) {
+        // 1. 캐시에 없는 email 만 추림 (같은 email 은 처음 나온 작성자 정보로 저장)
+        Map<String, Integer> resolved = new HashMap<>();
+        Map<String, AuthorEntity> missing = new LinkedHashMap<>();
+        List<Integer> withoutEmail = new ArrayList<>();
+        for (int i = 0; i < authorEntities.size(); i++) {
+            AuthorEntity authorEntity = authorEntities.get(i);
+            String email = emailOf(authorEntity);
+            if (email == null) {
+                withoutEmail.add(i);
+                continue;
+            }
+            String key = cacheKey(email);
+            Integer cachedId = authorIdByEmailCache.get(key, Integer.class);
+            if (cachedId != null) {
+                resolved.put(key, cachedId);
+            } else {
+                missing.putIfAbsent(key, authorEntity);
+            }
+        }
 
+        Map<String, Integer> loaded = new HashMap<>();
+        try {
+            if (!missing.isEmpty()) {
+                // 2. 이미 있는 작성자의 id 조회
+                Map<String, Integer> found = findAuthorIdsByEmail(missing.values());
+                loaded.putAll(found);
+                missing.keySet().removeAll(found.keySet());
+            }
+            if (!missing.isEmpty()) {
+                // 3. 없는 작성자만 일괄 저장 후 id 조회
+                SqlParameterSource[] batchParams = missing.values().stream()
+                        .map(this::toInsertParams)
+                        .toArray(SqlParameterSource[]::new);
+                namedParameterJdbcTemplate.batchUpdate(INSERT_IF_ABSENT_AUTHOR_SQL, batchParams);
+                loaded.putAll(findAuthorIdsByEmail(missing.values()));
+            }
+        } catch (DataAccessException e) {
+            log.error("작성자 일괄 저장 중 문제 발생: {}", e.getMessage());
+            throw new com.example.todo.exception.DataAccessException("작성자 데이터 일괄 저장 중에 문제 발생");
+        }
+        resolved.putAll(loaded);
+        cacheAfterCommit(loaded);
+
+        int[] authorIds = new int[authorEntities.size()];
+        // 4. email 이 없는 작성자는 각각 새로 저장
+        if (!withoutEmail.isEmpty()) {
+            int[] insertedIds = insertAuthors(withoutEmail.stream().map(authorEntities::get).toList());
+            for (int i = 0; i < insertedIds.length; i++) {
+                authorIds[withoutEmail.get(i)] = insertedIds[i];
+            }
+        }
+        for (int i = 0; i < authorEntities.size(); i++) {
+            String email = emailOf(authorEntities.get(i));
+            if (email != null) {
+                authorIds[i] = resolved.get(cacheKey(email));
+            }
+        }
+        return authorIds;
     }
 
+    /**
+     * 작성자를 JDBC 배치로 새로 저장 (email 이 없는 작성자용)
+     * @return 저장 순서대로 생성된 author_id
+     */
+    private int[] insertAuthors(List<AuthorEntity> authorEntities) {
+        SqlParameterSource[] batchParams = authorEntities.stream()
+                .map(this::toInsertParams)
+                .toArray(SqlParameterSource[]::new);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            namedParameterJdbcTemplate.batchUpdate(INSERT_AUTHOR_SQL, batchParams, keyHolder, new String[]{"author_id"});
+            return GeneratedKeys.toIds(keyHolder, authorEntities.size());
+        } catch (DataAccessException | IllegalStateException e) {
+            log.error("작성자 저장 중 문제 발생: {}", e.getMessage());
+            throw new com.example.todo.exception.DataAccessException("작성자 데이터 저장 중에 문제 발생");
+        }
+    }
+
+    /**
+     * 조회/저장한 author_id 를 캐시에 넣음
+     * 트랜잭션 안이면 커밋된 뒤에 넣어, 롤백된 작성자의 id 가 캐시에 남지 않게 합니다.
+     */
+    private void cacheAfterCommit(Map<String, Integer> authorIds) {
+        if (authorIds.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    authorIds.forEach(authorIdByEmailCache::put);
+                }
+            });
+            return;
+        }
+        authorIds.forEach(authorIdByEmailCache::put);
+    }
+
+    /**
+     * email 목록으로 author_id 조회
+     * @return email(소문자) -> author_id
+     */
+    private Map<String, Integer> findAuthorIdsByEmail(Collection<AuthorEntity> authorEntities) {
+        List<String> emails = authorEntities.stream().map(this::emailOf).collect(Collectors.toList());
+        String sql = "select author_id, email from author where email in (:emails)";
+        MapSqlParameterSource params = new MapSqlParameterSource().addValue("emails", emails);
+
+        Map<String, Integer> result = new HashMap<>();
+        namedParameterJdbcTemplate.query(sql, params, (RowCallbackHandler) rs ->
+                result.put(cacheKey(rs.getString("email")), rs.getInt("author_id")));
+        return result;
+    }
 
     @Override
     public AuthorEntity findAuthorById(int id) {
@@ -0,0 +1,205 @@
+package com.example.todo.repository;
+
+import com.example.todo.config.CacheConfig;
+import com.example.todo.dto.PageRequestDto;
+import com.example.todo.dto.TodoListItemDto;
+import com.example.todo.entity.TodoEntity;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 단건 조회 결과를 캐시하는 TodoRepository
+ * findById 는 캐시를 먼저 보고, 없을 때만 실제 저장소(todo ⋈ author 조인)를 조회합니다.
+ * 수정/삭제 경로에서는 해당 ID의 캐시를 비워 다음 조회 때 다시 읽도록 합니다.
+ * 트랜잭션 안이면 커밋(또는 롤백)이 끝난 뒤에 한 번 더 비워, 커밋 전에 다른 요청이 읽어 넣은 값이 남지 않게 합니다.
+ * 서비스에서 조회한 엔티티를 수정하므로 캐시에는 항상 복사본을 넣고 꺼냅니다.
+ */
+@Primary
+@Profile("!memory")
+@Repository
+public class CachingTodoRepository implements TodoRepository {
+
+    private final TodoRepository delegate;
+    private final Cache todoByIdCache;
+
+    public CachingTodoRepository(@Qualifier("todoRepositoryImpl") TodoRepository delegate, CacheManager cacheManager) {
+        this.delegate = delegate;
+        this.todoByIdCache = cacheManager.getCache(CacheConfig.TODO_BY_ID);
+    }
+
+    @Override
+    public Optional<TodoEntity> findById(int id) {
+        TodoEntity cached = todoByIdCache.get(id, TodoEntity.class);
+        if (cached != null) {
+            return Optional.of(cached.toBuilder().build());
+        }
+        Optional<TodoEntity> loaded = delegate.findById(id);
+        loaded.ifPresent(entity -> todoByIdCache.put(id, entity.toBuilder().build()));
+        return loaded;
+    }
+
+    @Override
+    public Optional<String> findPasswordById(int id) {
+        return delegate.findPasswordById(id);
+    }
+
+    @Override
+    public int updatePassword(int id, String passwordHash) {
+        return delegate.updatePassword(id, passwordHash);
+    }
+
+    @Override
+    public int registerTodoList(TodoEntity todoEntity, int authorId) {
+        return delegate.registerTodoList(todoEntity, authorId);
+    }
+
+    @Override
+    public int[] registerTodoLists(List<TodoEntity> todoEntities) {
+        return delegate.registerTodoLists(todoEntities);
+    }
+
+    @Override
+    public int updateTodoList(TodoEntity todoEntity) {
+        try {
+            return delegate.updateTodoList(todoEntity);
+        } finally {
+            evict(() -> todoByIdCache.evict(todoEntity.getId()));
+        }
+    }
+
+    @Override
+    public int[] updateTodoLists(List<TodoEntity> todoEntities) {
+        try {
+            return delegate.updateTodoLists(todoEntities);
+        } finally {
+            evict(() -> todoEntities.forEach(todoEntity -> todoByIdCache.evict(todoEntity.getId())));
+        }
+    }
+
+    @Override
+    public int deleteTodoList(int id, String password) {
+        try {
+            return delegate.deleteTodoList(id, password);
+        } finally {
+            evict(() -> todoByIdCache.evict(id));
+        }
+    }
+
+    @Override
+    public Optional<Boolean> toggleCompleted(int id) {
+        try {
+            return delegate.toggleCompleted(id);
+        } finally {
+            evict(() -> todoByIdCache.evict(id));
+        }
+    }
+
+    @Override
+    public int toggleCompleted(List<Integer> ids) {
+        try {
+            return delegate.toggleCompleted(ids);
+        } finally {
+            evict(() -> ids.forEach(todoByIdCache::evict));
+        }
+    }
+
+    @Override
+    public int setCompleted(List<Integer> ids, boolean completed) {
+        try {
+            return delegate.setCompleted(ids, completed);
+        } finally {
+            evict(() -> ids.forEach(todoByIdCache::evict));
+        }
+    }
+
+    @Override
+    public int refreshOverdue(int limit) {
+        int rows = delegate.refreshOverdue(limit);
+        if (rows > 0) {
+            // 어떤 일정이 바뀌었는지 알 수 없으므로 단건 캐시를 비움 (자정에 한 번)
+            evict(todoByIdCache::clear);
+        }
+        return rows;
+    }
+
+    /**
+     * 지금 비우고, 트랜잭션 안이면 끝난 뒤에 다시 비움
+     * 지금 비우는 것은 같은 트랜잭션의 다음 조회용, 끝난 뒤 비우는 것은 그 사이 다른 요청이 캐시에 넣은 값용입니다.
+     */
+    private void evict(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    @Override
+    public List<TodoListItemDto> searchByAuthor(PageRequestDto pageRequestDto) {
+        return delegate.searchByAuthor(pageRequestDto);
+    }
+
+    @Override
+    public List<TodoListItemDto> getList(PageRequestDto pageRequestDto) {
+        return delegate.getList(pageRequestDto);
+    }
+
+    @Override
+    public PagedResult<TodoListItemDto> getListWithTotal(PageRequestDto pageRequestDto) {
+        return delegate.getListWithTotal(pageRequestDto);
+    }
+
+    @Override
+    public List<TodoListItemDto> getListByCursor(PageRequestDto pageRequestDto, int limit) {
+        return delegate.getListByCursor(pageRequestDto, limit);
+    }
+
+    @Override
+    public int getCount(PageRequestDto pageRequestDto) {
+        return delegate.getCount(pageRequestDto);
+    }
+
+    @Override
+    public List<TodoListItemDto> searchByTitle(PageRequestDto pageRequestDto) {
+        return delegate.searchByTitle(pageRequestDto);
+    }
+
+    @Override
+    public int getCountByTitle(String title) {
+        return delegate.getCountByTitle(title);
+    }
+
+    @Override
+    public int getCountByAuthor(String authorName) {
+        return delegate.getCountByAuthor(authorName);
+    }
+
+    @Override
+    public PagedResult<TodoListItemDto> searchByAuthorWithTotal(PageRequestDto pageRequestDto) {
+        return delegate.searchByAuthorWithTotal(pageRequestDto);
+    }
+
+    @Override
+    public PagedResult<TodoListItemDto> searchByTitleWithTotal(PageRequestDto pageRequestDto) {
+        return delegate.searchByTitleWithTotal(pageRequestDto);
+    }
+
+    @Override
+    public void streamAll(Consumer<TodoEntity> consumer) {
+        delegate.streamAll(consumer);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.todo.repository;
+
+/**
+ * MySQL FULLTEXT(ngram parser) 검색어 변환
+ * 검색어를 boolean mode 의 구문("...") 검색으로 바꿔 인덱스로 후보를 찾습니다.
+ * ngram 구문 검색은 공백을 건너뛴 토큰 순서만 보므로 "abc" 가 "ab bc" 에도 맞습니다.
+ * like '%검색어%' 와 같은 결과가 되려면 찾은 후보를 like 로 다시 걸러야 합니다. (TodoRepositoryImpl 의 검색 조건)
+ * 불용어를 포함한 토큰은 색인되지 않으므로 인덱스는 불용어 없이 만듭니다. (V7 마이그레이션)
+ */
+final class FullTextQuery {
+
+    private FullTextQuery() {
+    }
+
+    /**
+     * 전문 인덱스로 검색할 수 있는 검색어인지 확인
+     * ngram 토큰보다 짧은 검색어는 인덱스에 토큰이 없어 찾을 수 없으므로 like 로 검색해야 합니다.
+     *
+     * @param query          검색어
+     * @param ngramTokenSize MySQL ngram_token_size 설정값
+     * @return 전문 검색 가능 여부
+     */
+    static boolean isSearchable(String query, int ngramTokenSize) {
+        return query != null && sanitize(query).length() >= ngramTokenSize;
+    }
+
+    /**
+     * 검색어를 boolean mode 구문 검색식으로 변환
+     * 구문 안에서는 +, -, * 같은 연산자가 문자 그대로 취급되므로 큰따옴표만 제거합니다.
+     *
+     * @param query 검색어
+     * @return against() 에 넘길 검색식
+     */
+    static String phrase(String query) {
+        return "\"" + sanitize(query) + "\"";
+    }
+
+    private static String sanitize(String query) {
+        return query.replace("\"", "").trim();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.todo.repository;
+
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배치 insert 로 생성된 키를 id 배열로 꺼내는 도우미
+ */
+final class GeneratedKeys {
+
+    private GeneratedKeys() {
+    }
+
+    /**
+     * @param keyHolder batchUpdate 에 넘긴 KeyHolder
+     * @param expected  insert 한 행 수
+     * @return insert 순서대로 정렬된 생성 키
+     */
+    static int[] toIds(KeyHolder keyHolder, int expected) {
+        List<Map<String, Object>> keyList = keyHolder.getKeyList();
+        if (keyList.size() != expected) {
+            throw new IllegalStateException("생성된 키 개수가 맞지 않습니다. 예상: " + expected + ", 실제: " + keyList.size());
+        }
+        int[] ids = new int[expected];
+        for (int i = 0; i < expected; i++) {
+            // MySQL 은 키 컬럼 이름과 관계없이 GENERATED_KEY 하나만 돌려줌
+            ids[i] = ((Number) keyList.get(i).values().iterator().next()).intValue();
+        }
+        return ids;
+    }
+}
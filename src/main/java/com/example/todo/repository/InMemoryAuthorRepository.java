@@ -0,0 +1,73 @@
+package com.example.todo.repository;
+
+import com.example.todo.entity.AuthorEntity;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메모리에 작성자를 보관하는 AuthorRepository (memory 프로필)
+ * email(소문자)이 같은 작성자는 AuthorRepositoryImpl 처럼 처음 저장된 author_id 를 재사용하고, email 이 없으면 매번 새로 저장합니다.
+ */
+@Profile("memory")
+@Repository
+public class InMemoryAuthorRepository implements AuthorRepository {
+
+    private static final String DEFAULT_AUTHOR_NAME = "unknown";
+
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final Map<Integer, AuthorEntity> authorsById = new ConcurrentHashMap<>();
+    // email(소문자) -> author_id
+    private final Map<String, Integer> authorIdByEmail = new ConcurrentHashMap<>();
+
+    @Override
+    public int findOrCreateAuthorId(AuthorEntity authorEntity) {
+        String email = emailOf(authorEntity);
+        if (email == null) {
+            return insert(authorEntity);
+        }
+        // 저장은 메모리 쓰기뿐이라 computeIfAbsent 안에서 해도 오래 잠그지 않음
+        return authorIdByEmail.computeIfAbsent(email.toLowerCase(Locale.ROOT), key -> insert(authorEntity));
+    }
+
+    @Override
+    public int[] findOrCreateAuthorIds(List<AuthorEntity> authorEntities) {
+        return authorEntities.stream().mapToInt(this::findOrCreateAuthorId).toArray();
+    }
+
+    @Override
+    public AuthorEntity findAuthorById(int id) {
+        return authorsById.get(id);
+    }
+
+    private int insert(AuthorEntity authorEntity) {
+        int authorId = sequence.incrementAndGet();
+        authorsById.put(authorId, copyOf(authorEntity, authorId));
+        return authorId;
+    }
+
+    private AuthorEntity copyOf(AuthorEntity authorEntity, int authorId) {
+        LocalDateTime now = LocalDateTime.now();
+        return AuthorEntity.builder()
+                .authorId(authorId)
+                .authorName(authorEntity.getAuthorName() != null ? authorEntity.getAuthorName() : DEFAULT_AUTHOR_NAME)
+                .email(emailOf(authorEntity))
+                .createdAt(authorEntity.getCreatedAt() != null ? authorEntity.getCreatedAt() : now)
+                .updatedAt(authorEntity.getUpdatedAt() != null ? authorEntity.getUpdatedAt() : now)
+                .build();
+    }
+
+    /**
+     * 작성자의 email, 없거나 비어 있으면 null (AuthorRepositoryImpl 과 같음)
+     */
+    private String emailOf(AuthorEntity authorEntity) {
+        String email = authorEntity.getEmail();
+        return email != null && !email.isBlank() ? email.trim() : null;
+    }
+}
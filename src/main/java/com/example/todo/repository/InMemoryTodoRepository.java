@@ -0,0 +1,628 @@
+package com.example.todo.repository;
+
+import com.example.todo.config.TodoProperties;
+import com.example.todo.dto.PageRequestDto;
+import com.example.todo.dto.TodoCursor;
+import com.example.todo.dto.TodoListItemDto;
+import com.example.todo.entity.AuthorEntity;
+import com.example.todo.entity.TodoEntity;
+import com.example.todo.exception.DataAccessException;
+import com.example.todo.exception.TodoConflictException;
+import com.example.todo.exception.TodoNotFoundException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 메모리에 일정을 보관하는 TodoRepository (memory 프로필)
+ * DB 없이 실행하는 환경과 테스트에서 사용하며, TodoRepositoryImpl 과 같은 정렬/검색 결과를 돌려줍니다.
+ *
+ * <ul>
+ *     <li>rowsById : id 순 (단건 조회, 제목 검색 정렬, 내보내기)</li>
+ *     <li>listIndex : 목록 정렬 키 (completed, overdue, dueDate, id) 순, idx_todo_list 와 같은 순서</li>
+ *     <li>rowsByAuthor : 작성자 이름(소문자)별 목록 정렬 순/등록 시각 역순</li>
+ *     <li>titleGrams : 제목(소문자)의 n-gram(todo.search.ngram-token-size) -> 일정 id, FULLTEXT ngram 인덱스에 해당</li>
+ * </ul>
+ * 작성자 이름과 email 은 todo ⋈ author 조인처럼 author_id 로 InMemoryAuthorRepository 에서 읽어 오고,
+ * 저장된 작성자는 바뀌지 않으므로 등록할 때 한 번 읽어 행에 담습니다.
+ * 전체 개수는 O(1), 작성자별 개수는 O(작성자 수), ngram 길이 검색어의 제목 개수는 O(1) 입니다.
+ * 읽기는 읽기 잠금을 함께 잡아 목록과 전체 개수가 같은 시점의 값이 되게 하고, 쓰기는 쓰기 잠금 안에서 색인을 함께 고칩니다.
+ */
+@Profile("memory")
+@Repository
+public class InMemoryTodoRepository implements TodoRepository {
+
+    // 목록 정렬 키, dueDate 가 null 이면 MySQL order by ... asc 처럼 가장 앞
+    private static final Comparator<Row> LIST_ORDER = Comparator.comparing(Row::completed)
+            .thenComparing(Row::overdue)
+            .thenComparing(Row::dueDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparingInt(Row::id);
+    // 작성자 검색 정렬 (createdAt desc, null 은 뒤로), 같은 시각은 id 역순
+    private static final Comparator<Row> CREATED_DESC = Comparator.comparing(Row::createdAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(Comparator.comparingInt(Row::id).reversed());
+    // 내보내기 시 읽기 잠금을 한 번에 잡고 있는 행 수
+    private static final int STREAM_CHUNK_SIZE = 1_000;
+
+    private final InMemoryAuthorRepository authorRepository;
+    private final int gramSize;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    // 아래 색인은 lock 안에서만 읽고 씀
+    private final TreeMap<Integer, Row> rowsById = new TreeMap<>();
+    private final TreeSet<Row> listIndex = new TreeSet<>(LIST_ORDER);
+    private final Map<String, AuthorRows> rowsByAuthor = new HashMap<>();
+    private final Map<String, TreeSet<Integer>> titleGrams = new HashMap<>();
+
+    public InMemoryTodoRepository(TodoProperties todoProperties, InMemoryAuthorRepository authorRepository) {
+        this.authorRepository = authorRepository;
+        this.gramSize = Math.max(1, todoProperties.getSearch().getNgramTokenSize());
+    }
+
+    @Override
+    public int registerTodoList(TodoEntity todoEntity, int authorId) {
+        return write(() -> insert(todoEntity, authorOf(authorId)));
+    }
+
+    @Override
+    public int[] registerTodoLists(List<TodoEntity> todoEntities) {
+        return write(() -> {
+            // 배치 중간에 실패해 일부만 저장되지 않도록 작성자부터 모두 확인
+            List<AuthorEntity> authors = todoEntities.stream().map(todoEntity -> authorOf(todoEntity.getAuthorId())).toList();
+            int[] ids = new int[todoEntities.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = insert(todoEntities.get(i), authors.get(i));
+            }
+            return ids;
+        });
+    }
+
+    /**
+     * 저장된 작성자 (todo ⋈ author 의 author 쪽)
+     * @throws DataAccessException 없는 author_id 인 경우 (TodoRepositoryImpl 의 fk_author_id 위반과 같음)
+     */
+    private AuthorEntity authorOf(int authorId) {
+        AuthorEntity author = authorRepository.findAuthorById(authorId);
+        if (author == null) {
+            throw new DataAccessException("일정 저장 중 오류가 발생했습니다");
+        }
+        return author;
+    }
+
+    // 작성자 이름/email 은 todoEntity 의 값이 아니라 저장된 작성자의 값
+    private int insert(TodoEntity todoEntity, AuthorEntity author) {
+        int id = sequence.incrementAndGet();
+        index(new Row(id, todoEntity.getTitle(), todoEntity.getDescription(), todoEntity.getPassword(), todoEntity.isCompleted(),
+                isOverdue(todoEntity.getDueDate()), todoEntity.getDueDate(), todoEntity.getCreatedAt(), todoEntity.getUpdatedAt(),
+                0, author.getAuthorId(), author.getAuthorName(), author.getEmail()));
+        return id;
+    }
+
+    /**
+     * 일정 수정 (읽었을 때의 version 과 같을 때만 반영하고 version 을 올림)
+     * @throws TodoConflictException 조회 이후 다른 요청이 먼저 수정한 경우
+     * @throws TodoNotFoundException 조회 이후 다른 요청이 먼저 삭제한 경우
+     */
+    @Override
+    public int updateTodoList(TodoEntity todoEntity) {
+        return write(() -> {
+            Row row = rowsById.get(todoEntity.getId());
+            if (row == null) {
+                throw new TodoNotFoundException("일정을 찾을 수 없습니다");
+            }
+            if (row.version() != todoEntity.getVersion()) {
+                throw new TodoConflictException("다른 요청이 먼저 일정을 수정했습니다. 다시 조회한 뒤 수정해주세요.");
+            }
+            replace(row, row.withContent(todoEntity.getTitle(), todoEntity.getDescription(), todoEntity.getDueDate(),
+                    todoEntity.isCompleted(), todoEntity.getUpdatedAt(), row.version() + 1));
+            return 1;
+        });
+    }
+
+    /**
+     * 여러 일정의 변경 내용을 반영 (저장된 version 이 더 작을 때만, TodoRepositoryImpl.updateTodoLists 와 같음)
+     */
+    @Override
+    public int[] updateTodoLists(List<TodoEntity> todoEntities) {
+        return write(() -> {
+            int[] rows = new int[todoEntities.size()];
+            for (int i = 0; i < rows.length; i++) {
+                TodoEntity todoEntity = todoEntities.get(i);
+                Row row = rowsById.get(todoEntity.getId());
+                if (row != null && row.version() < todoEntity.getVersion()) {
+                    replace(row, row.withContent(todoEntity.getTitle(), todoEntity.getDescription(), todoEntity.getDueDate(),
+                            todoEntity.isCompleted(), todoEntity.getUpdatedAt(), todoEntity.getVersion()));
+                    rows[i] = 1;
+                }
+            }
+            return rows;
+        });
+    }
+
+    @Override
+    public int deleteTodoList(int id, String password) {
+        return write(() -> {
+            Row row = rowsById.get(id);
+            if (row == null) {
+                return 0;
+            }
+            unindex(row);
+            return 1;
+        });
+    }
+
+    @Override
+    public Optional<Boolean> toggleCompleted(int id) {
+        return write(() -> {
+            Row row = rowsById.get(id);
+            if (row == null) {
+                return Optional.empty();
+            }
+            Row updated = row.withCompleted(!row.completed());
+            replace(row, updated);
+            return Optional.of(updated.completed());
+        });
+    }
+
+    @Override
+    public int toggleCompleted(List<Integer> ids) {
+        return write(() -> changeCompleted(ids, null));
+    }
+
+    @Override
+    public int setCompleted(List<Integer> ids, boolean completed) {
+        return write(() -> changeCompleted(ids, completed));
+    }
+
+    // completed 가 null 이면 반전
+    private int changeCompleted(List<Integer> ids, Boolean completed) {
+        int rows = 0;
+        for (int id : new LinkedHashSet<>(ids)) {
+            Row row = rowsById.get(id);
+            if (row != null) {
+                replace(row, row.withCompleted(completed != null ? completed : !row.completed()));
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    @Override
+    public int refreshOverdue(int limit) {
+        return write(() -> {
+            List<Row> expired = listIndex.stream()
+                    .filter(row -> !row.overdue() && isOverdue(row.dueDate()))
+                    .limit(limit)
+                    .toList();
+            expired.forEach(row -> replace(row, row.withOverdue(true)));
+            return expired.size();
+        });
+    }
+
+    /**
+     * 전체 일정을 id 순으로 전달
+     * 처리하는 동안 쓰기를 막지 않도록 STREAM_CHUNK_SIZE 행씩 읽기 잠금을 잡고 꺼낸 뒤 잠금 밖에서 전달합니다.
+     */
+    @Override
+    public void streamAll(Consumer<TodoEntity> consumer) {
+        int lastId = 0;
+        while (true) {
+            int afterId = lastId;
+            List<Row> chunk = read(() -> rowsById.tailMap(afterId, false).values().stream()
+                    .limit(STREAM_CHUNK_SIZE)
+                    .toList());
+            if (chunk.isEmpty()) {
+                return;
+            }
+            chunk.forEach(row -> consumer.accept(row.toEntity()));
+            lastId = chunk.get(chunk.size() - 1).id();
+        }
+    }
+
+    @Override
+    public Optional<String> findPasswordById(int id) {
+        return read(() -> Optional.ofNullable(rowsById.get(id)).map(Row::password));
+    }
+
+    @Override
+    public int updatePassword(int id, String passwordHash) {
+        return write(() -> {
+            Row row = rowsById.get(id);
+            if (row == null) {
+                return 0;
+            }
+            // version 은 그대로 (TodoRepositoryImpl.updatePassword 와 같음)
+            replace(row, row.withPassword(passwordHash));
+            return 1;
+        });
+    }
+
+    /**
+     * 단건 조회 (비밀번호는 담지 않음, 검증은 findPasswordById)
+     */
+    @Override
+    public Optional<TodoEntity> findById(int id) {
+        return read(() -> Optional.ofNullable(rowsById.get(id)).map(Row::toEntity));
+    }
+
+    @Override
+    public List<TodoListItemDto> getList(PageRequestDto pageRequestDto) {
+        return read(() -> toListItems(page(listSources(pageRequestDto.getAuthorName()), LIST_ORDER,
+                pageRequestDto.getSkip(), pageRequestDto.getSize())));
+    }
+
+    @Override
+    public PagedResult<TodoListItemDto> getListWithTotal(PageRequestDto pageRequestDto) {
+        return read(() -> new PagedResult<>(
+                toListItems(page(listSources(pageRequestDto.getAuthorName()), LIST_ORDER, pageRequestDto.getSkip(), pageRequestDto.getSize())),
+                countByAuthor(pageRequestDto.getAuthorName())));
+    }
+
+    /**
+     * 커서 이후의 일정을 목록 정렬 키 순으로 조회
+     * 정렬된 색인에서 커서 위치 다음부터 읽으므로 몇 번째 페이지든 비용이 같습니다.
+     */
+    @Override
+    public List<TodoListItemDto> getListByCursor(PageRequestDto pageRequestDto, int limit) {
+        String cursorToken = pageRequestDto.getCursor();
+        TodoCursor cursor = cursorToken != null && !cursorToken.isEmpty() ? TodoCursor.decode(cursorToken) : null;
+        return read(() -> {
+            List<NavigableSet<Row>> sources = listSources(pageRequestDto.getAuthorName());
+            if (cursor != null) {
+                Row position = Row.position(cursor.isCompleted(), cursor.isOverdue(), cursor.getDueDate(), cursor.getId());
+                sources = sources.stream().map(source -> source.tailSet(position, false)).toList();
+            }
+            return toListItems(page(sources, LIST_ORDER, 0, limit));
+        });
+    }
+
+    @Override
+    public int getCount(PageRequestDto pageRequestDto) {
+        return read(() -> countByAuthor(pageRequestDto.getAuthorName()));
+    }
+
+    @Override
+    public List<TodoListItemDto> searchByAuthor(PageRequestDto pageRequestDto) {
+        return read(() -> toListItems(page(authorSources(pageRequestDto.getQuery(), true), CREATED_DESC,
+                pageRequestDto.getSkip(), pageRequestDto.getSize())));
+    }
+
+    @Override
+    public PagedResult<TodoListItemDto> searchByAuthorWithTotal(PageRequestDto pageRequestDto) {
+        return read(() -> new PagedResult<>(
+                toListItems(page(authorSources(pageRequestDto.getQuery(), true), CREATED_DESC, pageRequestDto.getSkip(), pageRequestDto.getSize())),
+                countByAuthor(pageRequestDto.getQuery())));
+    }
+
+    @Override
+    public int getCountByAuthor(String authorName) {
+        return read(() -> countByAuthor(authorName));
+    }
+
+    @Override
+    public List<TodoListItemDto> searchByTitle(PageRequestDto pageRequestDto) {
+        return read(() -> toListItems(titleMatches(pageRequestDto.getQuery())
+                .skip(pageRequestDto.getSkip())
+                .limit(pageRequestDto.getSize())
+                .toList()));
+    }
+
+    @Override
+    public PagedResult<TodoListItemDto> searchByTitleWithTotal(PageRequestDto pageRequestDto) {
+        return read(() -> new PagedResult<>(
+                toListItems(titleMatches(pageRequestDto.getQuery()).skip(pageRequestDto.getSkip()).limit(pageRequestDto.getSize()).toList()),
+                countByTitle(pageRequestDto.getQuery())));
+    }
+
+    @Override
+    public int getCountByTitle(String title) {
+        return read(() -> countByTitle(title));
+    }
+
+    /**
+     * 목록 조회 대상 색인, 작성자 조건이 있으면 이름이 맞는 작성자별 색인들
+     */
+    private List<NavigableSet<Row>> listSources(String authorName) {
+        if (authorName == null || authorName.isEmpty()) {
+            return List.of(listIndex);
+        }
+        return authorSources(authorName, false);
+    }
+
+    /**
+     * 이름에 검색어가 들어간 작성자들의 색인 (like '%검색어%' 와 같음, 대소문자 구분 없음)
+     * @param createdDesc true 면 등록 시각 역순 색인, false 면 목록 정렬 키 색인
+     */
+    private List<NavigableSet<Row>> authorSources(String authorName, boolean createdDesc) {
+        String query = normalize(authorName);
+        List<NavigableSet<Row>> sources = new ArrayList<>();
+        rowsByAuthor.forEach((name, rows) -> {
+            if (name.contains(query)) {
+                sources.add(createdDesc ? rows.byCreatedDesc : rows.byListOrder);
+            }
+        });
+        return sources;
+    }
+
+    private int countByAuthor(String authorName) {
+        if (authorName == null || authorName.isEmpty()) {
+            return rowsById.size();
+        }
+        return authorSources(authorName, false).stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * 제목에 검색어가 들어간 일정을 id 역순으로 (TodoRepositoryImpl 의 제목 검색과 같은 정렬)
+     * 검색어가 ngram 보다 길면 검색어의 ngram 중 가장 적은 일정이 가진 ngram 을 기준으로 후보를 좁힌 뒤 제목을 확인합니다.
+     */
+    private Stream<Row> titleMatches(String title) {
+        String query = normalize(title);
+        if (query.isEmpty()) {
+            return rowsById.descendingMap().values().stream();
+        }
+        if (query.length() < gramSize) {
+            return rowsById.descendingMap().values().stream().filter(row -> row.titleKey().contains(query));
+        }
+        List<TreeSet<Integer>> postings = new ArrayList<>();
+        for (String gram : grams(query)) {
+            TreeSet<Integer> posting = titleGrams.get(gram);
+            if (posting == null) {
+                return Stream.empty();
+            }
+            postings.add(posting);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+        TreeSet<Integer> smallest = postings.get(0);
+        Stream<Row> candidates = smallest.descendingSet().stream().map(rowsById::get);
+        if (query.length() == gramSize) {
+            // 검색어가 ngram 하나면 색인 결과가 곧 검색 결과
+            return candidates;
+        }
+        return candidates.filter(row -> row.titleKey().contains(query));
+    }
+
+    private int countByTitle(String title) {
+        String query = normalize(title);
+        if (query.isEmpty()) {
+            return rowsById.size();
+        }
+        if (query.length() == gramSize) {
+            TreeSet<Integer> posting = titleGrams.get(query);
+            return posting != null ? posting.size() : 0;
+        }
+        return (int) titleMatches(query).count();
+    }
+
+    /**
+     * 여러 정렬된 색인을 order 순으로 합쳐 skip 개를 건너뛰고 limit 개를 꺼냄
+     * 작성자가 여러 명 맞을 때 작성자별 색인을 다시 정렬하지 않고 앞에서부터 병합합니다.
+     */
+    private static List<Row> page(List<? extends Collection<Row>> sources, Comparator<Row> order, int skip, int limit) {
+        List<Row> rows = new ArrayList<>(Math.max(0, Math.min(limit, 1_000)));
+        if (limit <= 0 || sources.isEmpty()) {
+            return rows;
+        }
+        Iterator<Row> iterator = sources.size() == 1 ? sources.get(0).iterator() : merge(sources, order);
+        int skipped = 0;
+        while (iterator.hasNext() && rows.size() < limit) {
+            Row row = iterator.next();
+            if (skipped < skip) {
+                skipped++;
+                continue;
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static Iterator<Row> merge(List<? extends Collection<Row>> sources, Comparator<Row> order) {
+        PriorityQueue<Map.Entry<Row, Iterator<Row>>> heads = new PriorityQueue<>(sources.size(), Map.Entry.comparingByKey(order));
+        for (Collection<Row> source : sources) {
+            Iterator<Row> iterator = source.iterator();
+            if (iterator.hasNext()) {
+                heads.add(Map.entry(iterator.next(), iterator));
+            }
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public Row next() {
+                Map.Entry<Row, Iterator<Row>> head = heads.poll();
+                if (head == null) {
+                    throw new NoSuchElementException();
+                }
+                if (head.getValue().hasNext()) {
+                    heads.add(Map.entry(head.getValue().next(), head.getValue()));
+                }
+                return head.getKey();
+            }
+        };
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void index(Row row) {
+        rowsById.put(row.id(), row);
+        listIndex.add(row);
+        AuthorRows authorRows = rowsByAuthor.computeIfAbsent(normalize(row.authorName()), name -> new AuthorRows());
+        authorRows.byListOrder.add(row);
+        authorRows.byCreatedDesc.add(row);
+        for (String gram : grams(row.titleKey())) {
+            titleGrams.computeIfAbsent(gram, key -> new TreeSet<>()).add(row.id());
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void unindex(Row row) {
+        rowsById.remove(row.id());
+        listIndex.remove(row);
+        String author = normalize(row.authorName());
+        AuthorRows authorRows = rowsByAuthor.get(author);
+        if (authorRows != null) {
+            authorRows.byListOrder.remove(row);
+            authorRows.byCreatedDesc.remove(row);
+            if (authorRows.byListOrder.isEmpty()) {
+                rowsByAuthor.remove(author);
+            }
+        }
+        removeGrams(row);
+    }
+
+    /**
+     * 바뀐 행으로 교체 (쓰기 잠금 안에서 호출), 제목이 그대로면 ngram 색인은 건드리지 않음
+     */
+    private void replace(Row row, Row updated) {
+        listIndex.remove(row);
+        AuthorRows authorRows = rowsByAuthor.get(normalize(row.authorName()));
+        authorRows.byListOrder.remove(row);
+        authorRows.byCreatedDesc.remove(row);
+
+        rowsById.put(updated.id(), updated);
+        listIndex.add(updated);
+        authorRows.byListOrder.add(updated);
+        authorRows.byCreatedDesc.add(updated);
+        if (!row.titleKey().equals(updated.titleKey())) {
+            removeGrams(row);
+            for (String gram : grams(updated.titleKey())) {
+                titleGrams.computeIfAbsent(gram, key -> new TreeSet<>()).add(updated.id());
+            }
+        }
+    }
+
+    private void removeGrams(Row row) {
+        for (String gram : grams(row.titleKey())) {
+            TreeSet<Integer> posting = titleGrams.get(gram);
+            if (posting != null) {
+                posting.remove(row.id());
+                if (posting.isEmpty()) {
+                    titleGrams.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * 문자열의 ngram (중복 제거), ngram 보다 짧으면 없음
+     */
+    private Set<String> grams(String value) {
+        if (value.length() < gramSize) {
+            return Set.of();
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + gramSize <= value.length(); i++) {
+            grams.add(value.substring(i, i + gramSize));
+        }
+        return grams;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isOverdue(LocalDate dueDate) {
+        return dueDate != null && dueDate.isBefore(LocalDate.now());
+    }
+
+    private static List<TodoListItemDto> toListItems(List<Row> rows) {
+        List<TodoListItemDto> items = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            items.add(new TodoListItemDto(row.id(), row.title(), row.completed(), row.dueDate(), row.authorName(), row.overdue()));
+        }
+        return items;
+    }
+
+    private <T> T read(Supplier<T> query) {
+        lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private <T> T write(Supplier<T> command) {
+        lock.writeLock().lock();
+        try {
+            return command.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 작성자 한 명의 일정 색인
+     */
+    private static final class AuthorRows {
+        private final TreeSet<Row> byListOrder = new TreeSet<>(LIST_ORDER);
+        private final TreeSet<Row> byCreatedDesc = new TreeSet<>(CREATED_DESC);
+    }
+
+    /**
+     * 저장된 일정 한 건 (todo ⋈ author), 바뀔 때마다 새 객체로 교체하므로 색인 안의 값은 변하지 않음
+     */
+    private record Row(int id, String title, String description, String password, boolean completed, boolean overdue,
+                       LocalDate dueDate, LocalDateTime createdAt, LocalDateTime updatedAt, int version,
+                       int authorId, String authorName, String email, String titleKey) {
+
+        Row(int id, String title, String description, String password, boolean completed, boolean overdue,
+            LocalDate dueDate, LocalDateTime createdAt, LocalDateTime updatedAt, int version,
+            int authorId, String authorName, String email) {
+            this(id, title, description, password, completed, overdue, dueDate, createdAt, updatedAt, version,
+                    authorId, authorName, email, normalize(title));
+        }
+
+        // 커서 위치 비교용 (목록 정렬 키만 채움)
+        static Row position(boolean completed, boolean overdue, LocalDate dueDate, int id) {
+            return new Row(id, null, null, null, completed, overdue, dueDate, null, null, 0, 0, null, null, "");
+        }
+
+        Row withContent(String title, String description, LocalDate dueDate, boolean completed, LocalDateTime updatedAt, int version) {
+            return new Row(id, title, description, password, completed, isOverdue(dueDate), dueDate, createdAt,
+                    updatedAt, version, authorId, authorName, email);
+        }
+
+        // 즉시 반영하는 완료 처리와 같이 수정 시각과 버전을 올림
+        Row withCompleted(boolean completed) {
+            return new Row(id, title, description, password, completed, overdue, dueDate, createdAt,
+                    LocalDateTime.now(), version + 1, authorId, authorName, email, titleKey);
+        }
+
+        Row withOverdue(boolean overdue) {
+            return new Row(id, title, description, password, completed, overdue, dueDate, createdAt,
+                    updatedAt, version, authorId, authorName, email, titleKey);
+        }
+
+        Row withPassword(String password) {
+            return new Row(id, title, description, password, completed, overdue, dueDate, createdAt,
+                    updatedAt, version, authorId, authorName, email, titleKey);
+        }
+
+        TodoEntity toEntity() {
+            return TodoEntity.builder()
+                    .id(id)
+                    .title(title)
+                    .description(description)
+                    .completed(completed)
+                    .overdue(overdue)
+                    .dueDate(dueDate)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .version(version)
+                    .authorId(authorId)
+                    .authorName(authorName)
+                    .email(email)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.todo.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 한 페이지의 조회 결과와 조건에 맞는 전체 개수를 함께 담는 객체
+ * 목록과 count 를 한 번의 쿼리로 가져올 때 사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PagedResult<E> {
+    private final List<E> entityList;
+    private final int total;
+}
@@ -0,0 +1,39 @@
+package com.example.todo.repository;
+
+/**
+ * 저장소 메서드를 쿼리 종류별로 묶은 메트릭 태그 값
+ * 같은 화면/기능을 위한 쿼리(목록 + 개수 등)를 한 종류로 묶어 어느 경로가 느린지 바로 찾을 수 있게 합니다.
+ */
+enum QueryType {
+    LIST("list"),
+    SEARCH_BY_TITLE("searchByTitle"),
+    SEARCH_BY_AUTHOR("searchByAuthor"),
+    FIND_BY_ID("findById"),
+    REGISTER("register"),
+    UPDATE("update"),
+    DELETE("delete"),
+    OTHER("other");
+
+    private final String tag;
+
+    QueryType(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    static QueryType of(String methodName) {
+        return switch (methodName) {
+            case "getList", "getListWithTotal", "getListByCursor", "getCount" -> LIST;
+            case "searchByTitle", "searchByTitleWithTotal", "getCountByTitle" -> SEARCH_BY_TITLE;
+            case "searchByAuthor", "searchByAuthorWithTotal", "getCountByAuthor" -> SEARCH_BY_AUTHOR;
+            case "findById", "findAuthorById", "findPasswordById" -> FIND_BY_ID;
+            case "registerTodoList", "registerTodoLists", "findOrCreateAuthorId", "findOrCreateAuthorIds" -> REGISTER;
+            case "updateTodoList", "updateTodoLists", "toggleCompleted", "setCompleted", "refreshOverdue", "updatePassword" -> UPDATE;
+            case "deleteTodoList" -> DELETE;
+            default -> OTHER;
+        };
+    }
+}
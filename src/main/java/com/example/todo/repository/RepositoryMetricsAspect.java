@@ -0,0 +1,95 @@
+package com.example.todo.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * JDBC 저장소(TodoRepositoryImpl, AuthorRepositoryImpl) 메서드마다 실행 시간, 결과 행 수, 오류 수를 기록
+ * 캐시(CachingTodoRepository)를 거쳐 실제로 DB 까지 내려온 호출만 측정됩니다.
+ *
+ * <ul>
+ *     <li>todo.repository.query : 실행 시간 (percentile histogram, outcome=success/error)</li>
+ *     <li>todo.repository.rows : 조회된 행 수 또는 변경된 행 수</li>
+ *     <li>todo.repository.errors : 예외 수 (exception 태그)</li>
+ * </ul>
+ * 모든 메트릭은 repository, method, type(QueryType) 태그를 가집니다.
+ */
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    public RepositoryMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.example.todo.repository.TodoRepositoryImpl.*(..)) || " +
+            "execution(public * com.example.todo.repository.AuthorRepositoryImpl.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        QueryType queryType = QueryType.of(method);
+        String type = queryType.getTag();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            Object result = joinPoint.proceed();
+            outcome = "success";
+            DistributionSummary.builder("todo.repository.rows")
+                    .description("저장소 쿼리가 조회하거나 변경한 행 수")
+                    .tags("repository", repository, "method", method, "type", type)
+                    .register(meterRegistry)
+                    .record(rowCount(queryType, result));
+            return result;
+        } catch (Throwable e) {
+            Counter.builder("todo.repository.errors")
+                    .description("저장소 쿼리 실패 수")
+                    .tags("repository", repository, "method", method, "type", type,
+                            "exception", e.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("todo.repository.query")
+                    .description("저장소 쿼리 실행 시간")
+                    .tags("repository", repository, "method", method, "type", type, "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 반환값에서 행 수를 꺼냄
+     * 목록은 크기, 단건은 0/1, 일괄 등록은 생성된 ID 개수
+     * int 반환값은 수정/삭제에서는 변경된 행 수, 그 밖에서는 생성된 ID 나 count(*) 결과 한 행
+     */
+    private static int rowCount(QueryType queryType, Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof PagedResult<?> pagedResult) {
+            return pagedResult.getEntityList().size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof int[] ids) {
+            return ids.length;
+        }
+        if (result instanceof Integer rows && (queryType == QueryType.UPDATE || queryType == QueryType.DELETE)) {
+            return rows;
+        }
+        return result == null ? 0 : 1;
+    }
+}
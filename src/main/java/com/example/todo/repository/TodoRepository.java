@@ -1,23 +1,40 @@
 package com.example.todo.repository;
 
 import com.example.todo.dto.PageRequestDto;
+import com.example.todo.dto.TodoListItemDto;
 import com.example.todo.entity.TodoEntity;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface TodoRepository {
     int registerTodoList(TodoEntity todoEntity, int authorId); //일정 생성
+    int[] registerTodoLists(List<TodoEntity> todoEntities); //일정 일괄 생성 (JDBC 배치)
     int updateTodoList(TodoEntity todoEntity); // 일정 수정
+    int[] updateTodoLists(List<TodoEntity> todoEntities); //여러 일정의 변경 내용을 일괄 반영 (JDBC 배치, 쓰기 지연 대기열)
     int deleteTodoList(int id, String password); //일정 삭제
+    Optional<Boolean> toggleCompleted(int id); //완료 상태 반전, 반전된 값 반환
+    int toggleCompleted(List<Integer> ids); //여러 일정의 완료 상태 반전
+    int setCompleted(List<Integer> ids, boolean completed); //여러 일정의 완료 상태 지정
+    int refreshOverdue(int limit); //마감 기한이 지난 일정의 overdue 를 최대 limit 건 갱신
+    void streamAll(Consumer<TodoEntity> consumer); //전체 일정을 id 순으로 한 행씩 전달 (내보내기)
 
+    Optional<String> findPasswordById(int id); //비밀번호 검증용, 저장된 비밀번호(해시)만 조회
+    int updatePassword(int id, String passwordHash); //저장된 비밀번호를 해시로 교체
     Optional<TodoEntity> findById(int id); //id로 단일 일정 조회/ 옵셔널로 감싸서 데이터가 없는 경우 처리
-    List<TodoEntity> searchByAuthor(PageRequestDto pageRequestDto); //작성자 이름으로 일정 조회, 중복자가 있을 수 있으니 리스트로
+    List<TodoListItemDto> searchByAuthor(PageRequestDto pageRequestDto); //작성자 이름으로 일정 조회, 중복자가 있을 수 있으니 리스트로
 
-    List<TodoEntity> getList(PageRequestDto pageRequestDto);
+    List<TodoListItemDto> getList(PageRequestDto pageRequestDto);
+    PagedResult<TodoListItemDto> getListWithTotal(PageRequestDto pageRequestDto); //목록 + 전체 개수를 한 번에 조회
+    List<TodoListItemDto> getListByCursor(PageRequestDto pageRequestDto, int limit); //커서 이후의 일정을 limit 개 조회
     int getCount(PageRequestDto pageRequestDto);
 
-    List<TodoEntity> searchByTitle(PageRequestDto pageRequestDto);
+    List<TodoListItemDto> searchByTitle(PageRequestDto pageRequestDto);
 
     int getCountByTitle(String title);
+    int getCountByAuthor(String authorName);
+
+    PagedResult<TodoListItemDto> searchByAuthorWithTotal(PageRequestDto pageRequestDto);
+    PagedResult<TodoListItemDto> searchByTitleWithTotal(PageRequestDto pageRequestDto);
 }
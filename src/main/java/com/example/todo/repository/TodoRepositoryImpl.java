@@ -1,25 +1,39 @@
 package com.example.todo.repository;
 
 
+import com.example.todo.config.TodoProperties;
 import com.example.todo.dto.PageRequestDto;
+import com.example.todo.dto.TodoCursor;
+import com.example.todo.dto.TodoListItemDto;
 import com.example.todo.entity.AuthorEntity;
 import com.example.todo.entity.TodoEntity;
 import com.example.todo.exception.DataAccessException;
+import com.example.todo.exception.TodoConflictException;
 
 import com.example.todo.exception.TodoNotFoundException;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.annotation.Profile;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * TodoRepositoryImpl 클래스는 TodoRepository 인터페이스를 구현하여
@@ -27,29 +41,60 @@ import java.util.*;
  * JDBC와 NamedParameterJdbcTemplate을 사용하여 데이터베이스 작업을 수행합니다.
  */
 @Log4j2
+@Profile("!memory")
 @Repository
 public class TodoRepositoryImpl implements TodoRepository {
 
+    // 마감 기한이 지났으면 true (마감일이 없으면 지나지 않은 것으로 봄), 저장/수정 시 overdue 컬럼에 기록
+    private static final String OVERDUE_VALUE = "coalesce(:dueDate < curdate(), false)";
+    private static final String INSERT_TODO_SQL = "INSERT INTO todo (title, description, password, createdAt, updatedAt, dueDate, completed, overdue, author_id) " +
+            "VALUES (:title, :description, :password, :createdAt, :updatedAt, :dueDate, :completed, " + OVERDUE_VALUE + ", :author_id)";
+
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TodoProperties todoProperties;
 
-    public TodoRepositoryImpl(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+    public TodoRepositoryImpl(NamedParameterJdbcTemplate namedParameterJdbcTemplate, TodoProperties todoProperties) {
         this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.todoProperties = todoProperties;
     }
 
     /**
-     * (JDBC를 사용해 db 로 조회한 결과( resultset ) 을  todoentity 객체로 매핑하는 역할)
-     * TodoEntity를 매핑하는 RowMapper
-     * ResultSet으로부터 데이터를 추출하여 TodoEntity 객체를 생성
+     * 목록 쿼리의 select 컬럼 (listItemRowMapper 가 이 순서대로 위치로 읽음)
+     * 목록에 보이지 않는 description, password, email, 생성/수정 시각은 읽지 않습니다.
+     */
+    private static final String LIST_ITEM_COLUMNS = "t.id, t.title, t.completed, t.dueDate, a.authorName, t.overdue ";
+    // count(*) over() as total 은 목록 컬럼 바로 뒤에 붙음
+    private static final int TOTAL_COLUMN = 7;
+
+    /**
+     * 목록 쿼리 결과를 TodoListItemDto 로 바로 매핑하는 RowMapper
+     * TodoEntity 를 거치지 않고 컬럼 이름 조회 없이 위치로 읽어 행마다 객체 하나만 만듭니다.
+     * (JMH 벤치마크에서 직접 호출할 수 있도록 package-private)
      */
-    private RowMapper<TodoEntity> todoEntityRowMapper = (rs, rowNum) -> TodoEntity.builder()
-            .id(rs.getInt("id"))
-            .title(rs.getString("title"))
-            .completed(rs.getBoolean("completed"))
-            .authorName(rs.getString("authorName"))
-            .dueDate(rs.getTimestamp("dueDate") != null ? rs.getTimestamp("dueDate").toLocalDateTime().toLocalDate() : null)
-            .createdAt(rs.getTimestamp("createdAt") != null ? rs.getTimestamp("createdAt").toLocalDateTime() : null)
-            .updatedAt(rs.getTimestamp("updatedAt") != null ? rs.getTimestamp("updatedAt").toLocalDateTime() : null)
-            .build();
+    final RowMapper<TodoListItemDto> listItemRowMapper = (rs, rowNum) -> new TodoListItemDto(
+            rs.getInt(1),
+            rs.getString(2),
+            rs.getBoolean(3),
+            rs.getObject(4, LocalDate.class),
+            rs.getString(5),
+            rs.getBoolean(6));
+
+    /**
+     * 조회 결과와 함께 count(*) over() 로 계산한 전체 개수를 꺼내는 ResultSetExtractor
+     * 전체 개수는 모든 행에 같은 값으로 실려 오므로 첫 행에서 한 번만 읽습니다.
+     */
+    private final ResultSetExtractor<PagedResult<TodoListItemDto>> pagedResultExtractor = rs -> {
+        List<TodoListItemDto> itemList = new ArrayList<>();
+        int total = 0;
+        int rowNum = 0;
+        while (rs.next()) {
+            if (rowNum == 0) {
+                total = rs.getInt(TOTAL_COLUMN);
+            }
+            itemList.add(listItemRowMapper.mapRow(rs, rowNum++));
+        }
+        return new PagedResult<>(itemList, total);
+    };
 
     /**
      * 전체 Todo 목록을 최신순으로 조회
@@ -59,31 +104,103 @@ public class TodoRepositoryImpl implements TodoRepository {
      * @return 전체 Todo 목록
      */
     @Override
-    public List<TodoEntity> getList(PageRequestDto pageRequestDto) {
-        int page = pageRequestDto.getPage() - 1;
+    public List<TodoListItemDto> getList(PageRequestDto pageRequestDto) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = buildListSql(pageRequestDto, params, false);
+        return namedParameterJdbcTemplate.query(sql, params, listItemRowMapper);
+    }
+
+    /**
+     * 전체 Todo 목록과 전체 개수를 한 번의 쿼리로 조회
+     *
+     * @param pageRequestDto 페이지 요청 정보
+     * @return 현재 페이지 목록과 전체 개수
+     */
+    @Override
+    public PagedResult<TodoListItemDto> getListWithTotal(PageRequestDto pageRequestDto) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = buildListSql(pageRequestDto, params, true);
+        PagedResult<TodoListItemDto> result = namedParameterJdbcTemplate.query(sql, params, pagedResultExtractor);
+        return withFallbackTotal(result, pageRequestDto, () -> getCount(pageRequestDto));
+    }
+
+    private String buildListSql(PageRequestDto pageRequestDto, MapSqlParameterSource params, boolean withTotal) {
         int skip = pageRequestDto.getSkip();
         int size = pageRequestDto.getSize();
 
-        StringBuilder sql = new StringBuilder("select t.id, t.title, t.createdAt, t.updatedAt, t.completed, a.authorName, t.dueDate ");
+        StringBuilder sql = new StringBuilder("select ").append(LIST_ITEM_COLUMNS);
+        if (withTotal) {
+            sql.append(", count(*) over() as total ");
+        }
         sql.append("from todo t ");
         sql.append("join author a ON t.author_id = a.author_id ");  // author 테이블과 조인
 
-        MapSqlParameterSource params = new MapSqlParameterSource();
         if (pageRequestDto.getAuthorName() != null && !pageRequestDto.getAuthorName().isEmpty()) {
-            sql.append("where a.authorName like :authorName ");
-            params.addValue("authorName", "%" + pageRequestDto.getAuthorName() + "%");
+            sql.append("where ").append(authorNameCondition(pageRequestDto.getAuthorName(), params));
         }
+        // idx_todo_list (completed, overdue, dueDate, id) 순서 그대로 정렬하여 filesort 없이 인덱스를 따라 읽음
         sql.append("order by ");
         sql.append("t.completed ASC, ");  // 미완료가 먼저, 완료가 나중에
-        sql.append("case when date(coalesce( t.dueDate, Date(now()))) < Date(now()) then 1 else 0 end ASC, ");  // 마감 기한이 지난 것은 뒤로
-        sql.append("t.dueDate asc ");  // 마감 기한이 가까운 순으로 정렬
+        sql.append("t.overdue ASC, ");  // 마감 기한이 지난 것은 뒤로
+        sql.append("t.dueDate asc, ");  // 마감 기한이 가까운 순으로 정렬
+        sql.append("t.id asc ");
         sql.append("limit ").append(size).append(" offset ").append(skip);
 
+        return sql.toString();
+    }
+
+    /**
+     * 마지막 페이지를 넘어선 요청은 결과 행이 없어 count(*) over() 값을 읽을 수 없으므로
+     * 그 경우에만 별도의 count 쿼리로 전체 개수를 채웁니다.
+     */
+    private PagedResult<TodoListItemDto> withFallbackTotal(PagedResult<TodoListItemDto> result, PageRequestDto pageRequestDto,
+                                                           Supplier<Integer> countQuery) {
+        if (result.getEntityList().isEmpty() && pageRequestDto.getSkip() > 0) {
+            return new PagedResult<>(result.getEntityList(), countQuery.get());
+        }
+        return result;
+    }
+
+    /**
+     * 커서(seek) 방식으로 Todo 목록을 조회
+     * offset 으로 앞의 행을 버리지 않고 마지막 행의 정렬 키 다음부터 읽으므로
+     * 몇 번째 페이지든 첫 페이지와 같은 비용이 듭니다.
+     *
+     * @param pageRequestDto 페이지 요청 정보 (cursor 가 없으면 처음부터)
+     * @param limit          가져올 행 수
+     * @return 정렬 키 순서의 Todo 목록 (커서용 overdue 포함)
+     */
+    @Override
+    public List<TodoListItemDto> getListByCursor(PageRequestDto pageRequestDto, int limit) {
+        StringBuilder sql = new StringBuilder("select ").append(LIST_ITEM_COLUMNS);
+        sql.append("from todo t ");
+        sql.append("join author a ON t.author_id = a.author_id ");
+        sql.append("where 1=1 ");
 
-        params.addValue("skip", skip);
-        params.addValue("size", size);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        if (pageRequestDto.getAuthorName() != null && !pageRequestDto.getAuthorName().isEmpty()) {
+            sql.append("and ").append(authorNameCondition(pageRequestDto.getAuthorName(), params));
+        }
+        if (pageRequestDto.getCursor() != null && !pageRequestDto.getCursor().isEmpty()) {
+            TodoCursor cursor = TodoCursor.decode(pageRequestDto.getCursor());
+            // (completed, overdue, dueDate, id) > 커서, dueDate 가 null 인 행은 order by 처럼 가장 앞에 있는 것으로 비교
+            sql.append("and ((t.completed, t.overdue) > (:completed, :overdue) ");
+            sql.append("or ((t.completed, t.overdue) = (:completed, :overdue) and ");
+            if (cursor.getDueDate() == null) {
+                sql.append("((t.dueDate is null and t.id > :id) or t.dueDate is not null))) ");
+            } else {
+                sql.append("(t.dueDate > :dueDate or (t.dueDate = :dueDate and t.id > :id)))) ");
+                params.addValue("dueDate", cursor.getDueDate());
+            }
+            params.addValue("completed", cursor.isCompleted());
+            params.addValue("overdue", cursor.isOverdue());
+            params.addValue("id", cursor.getId());
+        }
+        sql.append("order by t.completed ASC, t.overdue ASC, t.dueDate ASC, t.id ASC ");
+        sql.append("limit :limit");
+        params.addValue("limit", limit);
 
-        return namedParameterJdbcTemplate.query(sql.toString(), params, todoEntityRowMapper);
+        return namedParameterJdbcTemplate.query(sql.toString(), params, listItemRowMapper);
     }
 
     /**
@@ -93,17 +210,39 @@ public class TodoRepositoryImpl implements TodoRepository {
      * @return 저자가 작성한 Todo목록
      */
     @Override
-    public List<TodoEntity> searchByAuthor(PageRequestDto pageRequestDto) {
-        String sql = "select t.id, t.title, t.description, t.createdAt, t.updatedAt, t.completed, t.dueDate , a.authorName, a.email " +
-                "from todo t " +
-                "left join author a on t.author_id = a.author_id " +
-                "where a.authorName like :authorName " +
-                "order by t.createdAt desc";
+    public List<TodoListItemDto> searchByAuthor(PageRequestDto pageRequestDto) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = buildAuthorSearchSql(pageRequestDto, params, false);
         log.info("SQL 쿼리: {}", sql);  // 💡 SQL 로그 추가
+        return namedParameterJdbcTemplate.query(sql, params, listItemRowMapper);
+    }
 
+    /**
+     * 작성자 이름으로 검색한 목록과 전체 개수를 한 번의 쿼리로 조회
+     *
+     * @param pageRequestDto 페이지 요청 정보 (query : 작성자 이름)
+     * @return 현재 페이지 목록과 전체 개수
+     */
+    @Override
+    public PagedResult<TodoListItemDto> searchByAuthorWithTotal(PageRequestDto pageRequestDto) {
         MapSqlParameterSource params = new MapSqlParameterSource();
-        params.addValue("authorName", "%" + pageRequestDto.getQuery() + "%");
-        return namedParameterJdbcTemplate.query(sql, params, todoEntityRowMapper);
+        String sql = buildAuthorSearchSql(pageRequestDto, params, true);
+        PagedResult<TodoListItemDto> result = namedParameterJdbcTemplate.query(sql, params, pagedResultExtractor);
+        return withFallbackTotal(result, pageRequestDto, () -> getCountByAuthor(pageRequestDto.getQuery()));
+    }
+
+    private String buildAuthorSearchSql(PageRequestDto pageRequestDto, MapSqlParameterSource params, boolean withTotal) {
+        StringBuilder sql = new StringBuilder("select ").append(LIST_ITEM_COLUMNS);
+        if (withTotal) {
+            sql.append(", count(*) over() as total ");
+        }
+        sql.append("from todo t ");
+        sql.append("left join author a on t.author_id = a.author_id ");
+        sql.append("where ").append(authorNameCondition(pageRequestDto.getQuery(), params));
+        sql.append("order by t.createdAt desc ");
+        sql.append("limit ").append(pageRequestDto.getSize()).append(" offset ").append(pageRequestDto.getSkip());
+
+        return sql.toString();
     }
 
     /**
@@ -123,22 +262,11 @@ public class TodoRepositoryImpl implements TodoRepository {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        String sql = "INSERT INTO todo (title, description, password, createdAt, updatedAt, dueDate, completed, author_id) " +
-                "VALUES (:title, :description, :password, :createdAt, :updatedAt, :dueDate, :completed, :author_id)";
-
-        MapSqlParameterSource params = new MapSqlParameterSource();
-        params.addValue("title", todoEntity.getTitle());
-        params.addValue("description", todoEntity.getDescription());
-        params.addValue("password", todoEntity.getPassword());
-        params.addValue("createdAt", Timestamp.valueOf(todoEntity.getCreatedAt()));
-        params.addValue("updatedAt", Timestamp.valueOf(todoEntity.getUpdatedAt()));
-        params.addValue("completed", todoEntity.isCompleted());
-        params.addValue("dueDate", todoEntity.getDueDate() != null ? Timestamp.valueOf(todoEntity.getDueDate().atStartOfDay()) : null);
-        params.addValue("author_id", authorId);
+        MapSqlParameterSource params = toInsertParams(todoEntity, authorId);
         KeyHolder keyHolder = new GeneratedKeyHolder();
         try {
             //insert시 자동으로 키 생성
-            namedParameterJdbcTemplate.update(sql, params, keyHolder, new String[]{"id"});
+            namedParameterJdbcTemplate.update(INSERT_TODO_SQL, params, keyHolder, new String[]{"id"});
             Number generatedKey = keyHolder.getKey();
             if (generatedKey == null) {
                 throw new RuntimeException("Todo ID를 가져올 수 없습니다.");
@@ -150,18 +278,56 @@ public class TodoRepositoryImpl implements TodoRepository {
         }
     }
 
+    /**
+     * 여러 Todo를 JDBC 배치로 한 번에 저장
+     * MySQL 드라이버의 rewriteBatchedStatements 옵션이 켜져 있으면 multi-row insert 한 문장으로 전송됩니다.
+     *
+     * @param todoEntities 저장할 TodoEntity 목록 (authorId 포함)
+     * @return 저장 순서대로 생성된 Todo ID
+     */
+    @Override
+    public int[] registerTodoLists(List<TodoEntity> todoEntities) {
+        SqlParameterSource[] batchParams = todoEntities.stream()
+                .map(todoEntity -> toInsertParams(todoEntity, todoEntity.getAuthorId()))
+                .toArray(SqlParameterSource[]::new);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            namedParameterJdbcTemplate.batchUpdate(INSERT_TODO_SQL, batchParams, keyHolder, new String[]{"id"});
+            return GeneratedKeys.toIds(keyHolder, todoEntities.size());
+        } catch (org.springframework.dao.DataAccessException | IllegalStateException e) {
+            log.error("일정 일괄 저장 중 오류 발생: {}", e.getMessage());
+            throw new DataAccessException("일정 일괄 저장 중 오류가 발생했습니다");
+        }
+    }
+
+    private MapSqlParameterSource toInsertParams(TodoEntity todoEntity, int authorId) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("title", todoEntity.getTitle());
+        params.addValue("description", todoEntity.getDescription());
+        params.addValue("password", todoEntity.getPassword());
+        params.addValue("createdAt", Timestamp.valueOf(todoEntity.getCreatedAt()));
+        params.addValue("updatedAt", Timestamp.valueOf(todoEntity.getUpdatedAt()));
+        params.addValue("completed", todoEntity.isCompleted());
+        params.addValue("dueDate", todoEntity.getDueDate() != null ? Timestamp.valueOf(todoEntity.getDueDate().atStartOfDay()) : null);
+        params.addValue("author_id", authorId);
+        return params;
+    }
+
 
     /**
      * Todo를 수정
      *
-     * @param todoEntity : 수정할 TodoEntity 객체
+     * @param todoEntity : 수정할 TodoEntity 객체 (조회 당시의 version 포함)
      * @return 수정된 행의 수를 리턴합니다.
+     * @throws TodoConflictException 조회 이후 다른 요청이 먼저 수정한 경우
+     * @throws TodoNotFoundException 조회 이후 다른 요청이 먼저 삭제한 경우
      */
     @Override
     public int updateTodoList(TodoEntity todoEntity) {
-        //1. 할 일 업데이트
+        //1. 할 일 업데이트 (읽었을 때의 version 과 같을 때만 반영하고 version 을 올림)
         String sql = "update todo set title = :title, updatedAt = :updatedAt, " +
-                "dueDate = :dueDate, description = :description, completed = :completed where id = :id";
+                "dueDate = :dueDate, overdue = " + OVERDUE_VALUE + ", description = :description, completed = :completed, version = version + 1 " +
+                "where id = :id and version = :version";
         MapSqlParameterSource params = new MapSqlParameterSource();
         params.addValue("title", todoEntity.getTitle());
         params.addValue("updatedAt", Timestamp.valueOf(todoEntity.getUpdatedAt()));
@@ -169,8 +335,18 @@ public class TodoRepositoryImpl implements TodoRepository {
         params.addValue("description", todoEntity.getDescription());
         params.addValue("completed", todoEntity.isCompleted());
         params.addValue("id", todoEntity.getId());
+        params.addValue("version", todoEntity.getVersion());
 
         int todoRows = namedParameterJdbcTemplate.update(sql, params);
+        if (todoRows == 0) {
+            // 버전이 달라서인지 행이 없어서인지 구분
+            Integer exists = namedParameterJdbcTemplate.queryForObject("select count(*) from todo where id = :id",
+                    new MapSqlParameterSource("id", todoEntity.getId()), Integer.class);
+            if (exists == null || exists == 0) {
+                throw new TodoNotFoundException("일정을 찾을 수 없습니다");
+            }
+            throw new TodoConflictException("다른 요청이 먼저 일정을 수정했습니다. 다시 조회한 뒤 수정해주세요.");
+        }
         // 2. 작성자 업데이트
         String authorSql = "update author set authorName = :authorName, email = :email, updatedAt = :updatedAt " +
                 "WHERE author_id = :author_id";
@@ -184,6 +360,155 @@ public class TodoRepositoryImpl implements TodoRepository {
         return authorRows;
     }
 
+    /**
+     * 여러 Todo의 제목/내용/마감일/완료 상태를 JDBC 배치로 한 번에 반영 (쓰기 지연 대기열 반영용)
+     * version 은 대기열에서 정한 값으로 저장하며, DB 의 version 이 이미 그 이상이면 반영하지 않아
+     * 저널을 다시 반영해도 나중에 저장된 값을 되돌리지 않습니다.
+     *
+     * @param todoEntities : 반영할 TodoEntity 목록 (id, title, description, dueDate, completed, updatedAt, version)
+     * @return 일정별 변경된 행의 수
+     */
+    @Override
+    public int[] updateTodoLists(List<TodoEntity> todoEntities) {
+        String sql = "update todo set title = :title, description = :description, dueDate = :dueDate, " +
+                "overdue = " + OVERDUE_VALUE + ", completed = :completed, updatedAt = :updatedAt, version = :version " +
+                "where id = :id and version < :version";
+        SqlParameterSource[] batchParams = todoEntities.stream()
+                .map(todoEntity -> new MapSqlParameterSource()
+                        .addValue("title", todoEntity.getTitle())
+                        .addValue("description", todoEntity.getDescription())
+                        .addValue("dueDate", todoEntity.getDueDate() != null ? Timestamp.valueOf(todoEntity.getDueDate().atStartOfDay()) : null)
+                        .addValue("completed", todoEntity.isCompleted())
+                        .addValue("updatedAt", Timestamp.valueOf(todoEntity.getUpdatedAt()))
+                        .addValue("version", todoEntity.getVersion())
+                        .addValue("id", todoEntity.getId()))
+                .toArray(SqlParameterSource[]::new);
+        return namedParameterJdbcTemplate.batchUpdate(sql, batchParams);
+    }
+
+    /**
+     * Todo 완료 상태를 한 문장으로 반전
+     * 반전된 값은 같은 트랜잭션에서 PK로 다시 읽습니다. update 가 잡은 행 잠금이 커밋까지 유지되므로
+     * 동시에 들어온 반전 요청이 서로의 결과를 덮어쓰지 않습니다.
+     *
+     * @param id : 완료 상태를 반전할 Todo의 ID
+     * @return 반전된 완료 상태, 해당 ID가 없으면 빈 Optional
+     */
+    @Override
+    public Optional<Boolean> toggleCompleted(int id) {
+        String sql = "update todo set completed = not completed, updatedAt = now(), version = version + 1 where id = :id";
+        MapSqlParameterSource params = new MapSqlParameterSource().addValue("id", id);
+
+        int rows = namedParameterJdbcTemplate.update(sql, params);
+        if (rows == 0) {
+            return Optional.empty();
+        }
+        Boolean completed = namedParameterJdbcTemplate.queryForObject(
+                "select completed from todo where id = :id", params, Boolean.class);
+        return Optional.ofNullable(completed);
+    }
+
+    /**
+     * 여러 Todo의 완료 상태를 한 번에 반전
+     *
+     * @param ids : 완료 상태를 반전할 Todo ID 목록
+     * @return 변경된 행의 수
+     */
+    @Override
+    public int toggleCompleted(List<Integer> ids) {
+        String sql = "update todo set completed = not completed, updatedAt = now(), version = version + 1 where id in (:ids)";
+        return namedParameterJdbcTemplate.update(sql, new MapSqlParameterSource().addValue("ids", ids));
+    }
+
+    /**
+     * 여러 Todo의 완료 상태를 한 번에 지정한 값으로 변경
+     *
+     * @param ids       : 변경할 Todo ID 목록
+     * @param completed : 변경할 완료 상태
+     * @return 변경된 행의 수
+     */
+    @Override
+    public int setCompleted(List<Integer> ids, boolean completed) {
+        String sql = "update todo set completed = :completed, updatedAt = now(), version = version + 1 where id in (:ids)";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("completed", completed);
+        return namedParameterJdbcTemplate.update(sql, params);
+    }
+
+    /**
+     * 날짜가 바뀌어 마감 기한이 지난 Todo의 overdue 값을 최대 limit 건 갱신
+     * completed 두 값 각각에 대해 idx_todo_list 의 (completed, false, dueDate < 오늘) 구간만 읽으므로
+     * 한 번의 update 가 잠그는 행은 limit 건으로 제한되고, 호출하는 쪽은 0 이 될 때까지 반복합니다.
+     *
+     * @param limit 한 번에 갱신할 최대 행 수
+     * @return 갱신된 행의 수
+     */
+    @Override
+    public int refreshOverdue(int limit) {
+        String sql = "update todo set overdue = true " +
+                "where completed in (false, true) and overdue = false and dueDate < curdate() limit :limit";
+        return namedParameterJdbcTemplate.update(sql, new MapSqlParameterSource("limit", limit));
+    }
+
+    /**
+     * 전체 Todo를 id 순으로 한 행씩 읽어 전달 (내보내기용)
+     * 결과를 목록으로 모으지 않고 ResultSet 에서 읽는 대로 넘기므로 테이블 크기와 관계없이 메모리 사용량이 일정합니다.
+     * 다 읽을 때까지 커넥션 하나를 점유하므로 consumer 는 행을 오래 붙잡지 않아야 합니다. (동시 내보내기 수는 ExportLimiter 로 제한)
+     * MySQL 드라이버는 스트리밍 ResultSet 을 닫을 때 남은 행을 끝까지 읽어 버리므로,
+     * consumer 가 예외로 중단하면(클라이언트 연결 끊김 등) 먼저 쿼리를 취소해 남은 행을 받지 않고 커넥션을 돌려줍니다.
+     *
+     * @param consumer 행마다 호출할 처리 (TodoEntity, password 제외)
+     */
+    @Override
+    public void streamAll(Consumer<TodoEntity> consumer) {
+        String sql = "select t.id, t.title, t.description, t.completed, t.dueDate, t.createdAt, t.updatedAt, t.version, " +
+                "t.author_id, a.authorName, a.email " +
+                "from todo t " +
+                "left join author a on t.author_id = a.author_id " +
+                "order by t.id";
+        PreparedStatement[] statement = new PreparedStatement[1];
+        namedParameterJdbcTemplate.getJdbcOperations().query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // MySQL 드라이버는 forward-only + fetchSize Integer.MIN_VALUE 일 때만 한 행씩 스트리밍 (그 외에는 전체 결과를 메모리에 올림)
+            ps.setFetchSize(Integer.MIN_VALUE);
+            statement[0] = ps;
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            try {
+                consumer.accept(toStreamedEntity(rs));
+            } catch (RuntimeException e) {
+                cancel(statement[0]);
+                throw e;
+            }
+        });
+    }
+
+    private TodoEntity toStreamedEntity(ResultSet rs) throws SQLException {
+        return TodoEntity.builder()
+                .id(rs.getInt("id"))
+                .title(rs.getString("title"))
+                .description(rs.getString("description"))
+                .completed(rs.getBoolean("completed"))
+                .dueDate(rs.getTimestamp("dueDate") != null ? rs.getTimestamp("dueDate").toLocalDateTime().toLocalDate() : null)
+                .createdAt(rs.getTimestamp("createdAt") != null ? rs.getTimestamp("createdAt").toLocalDateTime() : null)
+                .updatedAt(rs.getTimestamp("updatedAt") != null ? rs.getTimestamp("updatedAt").toLocalDateTime() : null)
+                .version(rs.getInt("version"))
+                .authorId(rs.getInt("author_id"))
+                .authorName(rs.getString("authorName"))
+                .email(rs.getString("email"))
+                .build();
+    }
+
+    // 스트리밍 중인 쿼리 취소 (KILL QUERY), 실패해도 원래 예외를 그대로 던지도록 로그만 남김
+    private void cancel(PreparedStatement ps) {
+        try {
+            ps.cancel();
+        } catch (SQLException e) {
+            log.warn("내보내기 쿼리 취소 실패: {}", e.getMessage());
+        }
+    }
+
     /**
      * 특정 ID의 Todo를 삭제
      *
@@ -206,15 +531,49 @@ public class TodoRepositoryImpl implements TodoRepository {
         }
     }
 
+    /**
+     * 비밀번호 검증용으로 저장된 비밀번호(해시)만 조회
+     * author 조인 없이 PK 로 한 컬럼만 읽습니다.
+     *
+     * @param id : 조회할 Todo의 ID
+     * @return 저장된 비밀번호 (BCrypt 해시, 아직 옮기지 않은 일정은 평문), 해당 ID가 없으면 빈 Optional
+     */
+    @Override
+    public Optional<String> findPasswordById(int id) {
+        String sql = "select password from todo where id = :id";
+        MapSqlParameterSource params = new MapSqlParameterSource().addValue("id", id);
+        List<String> result = namedParameterJdbcTemplate.queryForList(sql, params, String.class);
+        return result.stream().findFirst();
+    }
+
+    /**
+     * 저장된 비밀번호를 해시로 교체 (평문으로 저장된 기존 일정을 옮길 때 사용)
+     * 수정 버전(version)은 바꾸지 않아 열려 있는 수정 화면이 충돌로 처리되지 않습니다.
+     *
+     * @param id           : 대상 Todo의 ID
+     * @param passwordHash : 저장할 비밀번호 해시
+     * @return 변경된 행의 수
+     */
+    @Override
+    public int updatePassword(int id, String passwordHash) {
+        String sql = "update todo set password = :password where id = :id";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("password", passwordHash);
+        return namedParameterJdbcTemplate.update(sql, params);
+    }
+
     /**
      * ID를 통해 단일 Todo를 조회
      *
+     * 비밀번호 해시는 읽지 않습니다. (검증은 findPasswordById)
+     *
      * @param id : 조회할 Todo의 ID
      * @return 조회된 TodoEntity 객체를 감싼 Optional 객체
      */
     @Override
     public Optional<TodoEntity> findById(int id) {
-        String sql = "select t.id, t.title, t.description, t.password, t.completed, t.createdAt, t.updatedAt, t.dueDate, " +
+        String sql = "select t.id, t.title, t.description, t.completed, t.createdAt, t.updatedAt, t.dueDate, t.version, " +
                 "a.authorName, a.email " +
                 "from todo t " +
                 "join author a on t.author_id = a.author_id " +
@@ -227,13 +586,13 @@ public class TodoRepositoryImpl implements TodoRepository {
                             .id(rs.getInt("id"))
                             .title(rs.getString("title"))
                             .description(rs.getString("description"))
-                            .password(rs.getString("password"))
                             .completed(rs.getBoolean("completed"))
                             .authorName(rs.getString("authorName"))
                             .email(rs.getString("email"))
                             .createdAt(rs.getTimestamp("createdAt") != null ? rs.getTimestamp("createdAt").toLocalDateTime() : null)
                             .updatedAt(rs.getTimestamp("updatedAt") != null ? rs.getTimestamp("updatedAt").toLocalDateTime() : null)
                             .dueDate(rs.getTimestamp("dueDate") != null ? rs.getTimestamp("dueDate").toLocalDateTime().toLocalDate() : null)
+                            .version(rs.getInt("version"))
                             .build());
 
             return Optional.ofNullable(entity);
@@ -252,8 +611,7 @@ public class TodoRepositoryImpl implements TodoRepository {
         sql.append("join author a on t.author_id = a.author_id ");
         MapSqlParameterSource params = new MapSqlParameterSource();
         if (pageRequestDto.getAuthorName() != null && !pageRequestDto.getAuthorName().isEmpty()) {
-            sql.append("where a.authorName like :authorName ");
-            params.addValue("authorName", "%" + pageRequestDto.getAuthorName() + "%");
+            sql.append("where ").append(authorNameCondition(pageRequestDto.getAuthorName(), params));
         }
 
         int count = namedParameterJdbcTemplate.queryForObject(sql.toString(), params, Integer.class);
@@ -262,41 +620,80 @@ public class TodoRepositoryImpl implements TodoRepository {
     }
 
     @Override
-    public List<TodoEntity> searchByTitle(PageRequestDto pageRequestDto) {
+    public List<TodoListItemDto> searchByTitle(PageRequestDto pageRequestDto) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = buildTitleSearchSql(pageRequestDto, params, false);
+        try {
+            List<TodoListItemDto> result = namedParameterJdbcTemplate.query(sql, params, listItemRowMapper);
+            return result;
+        } catch (Exception e) {
+            log.error("제목으로 검색 중 오류 발생: {}", e.getMessage());
+            throw new DataAccessException("제목으로 검색 중 오류 발생: " + e.getMessage());
+        }
+
+
+    }
+
+    /**
+     * 제목으로 검색한 목록과 전체 개수를 한 번의 쿼리로 조회
+     *
+     * @param pageRequestDto 페이지 요청 정보 (query : 제목 검색어)
+     * @return 현재 페이지 목록과 전체 개수
+     */
+    @Override
+    public PagedResult<TodoListItemDto> searchByTitleWithTotal(PageRequestDto pageRequestDto) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = buildTitleSearchSql(pageRequestDto, params, true);
+        try {
+            PagedResult<TodoListItemDto> result = namedParameterJdbcTemplate.query(sql, params, pagedResultExtractor);
+            return withFallbackTotal(result, pageRequestDto, () -> getCountByTitle(pageRequestDto.getQuery()));
+        } catch (Exception e) {
+            log.error("제목으로 검색 중 오류 발생: {}", e.getMessage());
+            throw new DataAccessException("제목으로 검색 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    private String buildTitleSearchSql(PageRequestDto pageRequestDto, MapSqlParameterSource params, boolean withTotal) {
         int skip = pageRequestDto.getSkip();
         int size = pageRequestDto.getSize();
-        StringBuilder sql = new StringBuilder("select t.id, t.title, t.description, t.createdAt, t.updatedAt, t.completed, t.dueDate , a.authorName, a.email ");
+        StringBuilder sql = new StringBuilder("select ").append(LIST_ITEM_COLUMNS);
+        if (withTotal) {
+            sql.append(", count(*) over() as total ");
+        }
         sql.append("from todo t ");
         sql.append("left join author a on t.author_id = a.author_id ");
 
-        MapSqlParameterSource params = new MapSqlParameterSource();
         if (pageRequestDto.getQuery() != null && !pageRequestDto.getQuery().isEmpty()) {
-            sql.append("where t.title like :title ");
-            params.addValue("title", "%" + pageRequestDto.getQuery() + "%");
+            sql.append("where ").append(titleCondition(pageRequestDto.getQuery(), params));
         }
         sql.append("order by t.id desc ");
         sql.append("limit ").append(size).append(" offset ").append(skip);
-        params.addValue("title", "%" + pageRequestDto.getQuery() + "%");
-        params.addValue("skip", skip);
-        params.addValue("size", size);
+
+        return sql.toString();
+    }
+
+    @Override
+    public int getCountByTitle(String title) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = "select count(*) from todo t left join author a on t.author_id = a.author_id where "
+                + titleCondition(title, params);
 
         try {
-            List<TodoEntity> result = namedParameterJdbcTemplate.query(sql.toString(), params, todoEntityRowMapper);
-            return result;
+            int count = namedParameterJdbcTemplate.queryForObject(sql, params, Integer.class);
+
+            return count;
         } catch (Exception e) {
-            log.error("제목으로 검색 중 오류 발생: {}", e.getMessage());
-            throw new DataAccessException("제목으로 검색 중 오류 발생: " + e.getMessage());
+            log.error("데이터 개수 조회 중 오류 발생: {}", e.getMessage());
+            throw new DataAccessException("데이터 개수 조회 중 오류 발생: " + e.getMessage());
         }
 
-
     }
 
     @Override
-    public int getCountByTitle(String title) {
-        String sql = "select count(*) from todo t left join author a on t.author_id = a.author_id where t.title like :title";
-
+    public int getCountByAuthor(String authorName) {
         MapSqlParameterSource params = new MapSqlParameterSource();
-        params.addValue("title", "%" + title + "%");
+        String sql = "select count(*) from todo t join author a on t.author_id = a.author_id where "
+                + authorNameCondition(authorName, params);
 
         try {
             int count = namedParameterJdbcTemplate.queryForObject(sql, params, Integer.class);
@@ -306,6 +703,35 @@ public class TodoRepositoryImpl implements TodoRepository {
             log.error("데이터 개수 조회 중 오류 발생: {}", e.getMessage());
             throw new DataAccessException("데이터 개수 조회 중 오류 발생: " + e.getMessage());
         }
+    }
+
+    /**
+     * 제목/내용 검색 조건
+     * 전문(FULLTEXT ngram) 인덱스를 쓸 수 있으면 match ... against 로 후보를 찾고 like 로 다시 거르며, 아니면 like 로만 검색합니다.
+     * 어느 쪽이든 결과는 제목 또는 내용에 검색어가 들어간 일정입니다.
+     */
+    private String titleCondition(String title, MapSqlParameterSource params) {
+        TodoProperties.SearchProperties search = todoProperties.getSearch();
+        params.addValue("titleLike", "%" + title + "%");
+        String likeCondition = "(t.title like :titleLike or t.description like :titleLike)";
+        if (search.isFullTextEnabled() && FullTextQuery.isSearchable(title, search.getNgramTokenSize())) {
+            params.addValue("title", FullTextQuery.phrase(title));
+            return "(match(t.title, t.description) against (:title in boolean mode) and " + likeCondition + ") ";
+        }
+        return likeCondition + " ";
+    }
 
+    /**
+     * 작성자 이름 검색 조건
+     * 전문(FULLTEXT ngram) 인덱스를 쓸 수 있으면 match ... against 로 후보를 찾고 like 로 다시 거르며, 아니면 like 로만 검색합니다.
+     */
+    private String authorNameCondition(String authorName, MapSqlParameterSource params) {
+        TodoProperties.SearchProperties search = todoProperties.getSearch();
+        params.addValue("authorNameLike", "%" + authorName + "%");
+        if (search.isFullTextEnabled() && FullTextQuery.isSearchable(authorName, search.getNgramTokenSize())) {
+            params.addValue("authorName", FullTextQuery.phrase(authorName));
+            return "(match(a.authorName) against (:authorName in boolean mode) and a.authorName like :authorNameLike) ";
+        }
+        return "a.authorName like :authorNameLike ";
     }
-}
\ No newline at end of file
+}
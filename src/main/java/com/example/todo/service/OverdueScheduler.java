@@ -0,0 +1,49 @@
+package com.example.todo.service;
+
+import com.example.todo.config.TodoProperties;
+import com.example.todo.repository.TodoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 자정마다 마감 기한이 지난 일정의 overdue 값을 갱신
+ * 목록 정렬에 쓰는 overdue 는 저장/수정 시점에 계산되므로 날짜가 바뀌면 다시 맞춰야 합니다.
+ * 한 번에 todo.overdue.refresh-batch-size 건씩 나눠 갱신해 update 하나가 오래 행 잠금을 잡지 않게 합니다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class OverdueScheduler {
+    private final TodoRepository todoRepository;
+    private final TodoWriteVersion todoWriteVersion;
+    private final TodoProperties todoProperties;
+
+    @Scheduled(cron = "${todo.overdue.refresh-cron}", zone = "${todo.overdue.zone}")
+    public void refreshOverdue() {
+        int batchSize = Math.max(1, todoProperties.getOverdue().getRefreshBatchSize());
+        long pauseMillis = todoProperties.getOverdue().getRefreshBatchPause().toMillis();
+        int total = 0;
+        int batches = 0;
+        try {
+            while (true) {
+                int rows = todoRepository.refreshOverdue(batchSize);
+                total += rows;
+                batches++;
+                if (rows > 0) {
+                    // 갱신된 일정이 바로 목록 순서에 반영되도록 배치마다 목록 캐시를 무효화
+                    todoWriteVersion.bump();
+                }
+                if (rows < batchSize) {
+                    break;
+                }
+                Thread.sleep(pauseMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("마감 기한이 지난 일정 갱신 중단 (종료 중), 남은 일정은 다음 실행 때 갱신합니다.");
+        }
+        log.info("마감 기한이 지난 일정 갱신: {}건 ({}회)", total, batches);
+    }
+}
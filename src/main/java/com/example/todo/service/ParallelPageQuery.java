@@ -0,0 +1,134 @@
+package com.example.todo.service;
+
+import com.example.todo.config.TodoProperties;
+import com.example.todo.exception.DataAccessException;
+import com.example.todo.repository.PagedResult;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 목록 쿼리와 count 쿼리를 동시에 실행해 하나의 결과로 합침
+ * 두 쿼리를 차례로 실행하면 응답 시간이 두 쿼리 시간의 합이지만, 동시에 실행하면 둘 중 긴 쪽만큼 걸립니다.
+ * 쿼리는 가상 스레드에서 실행하고, 동시에 실행되는 쿼리 수는 todo.list.parallel-max-concurrency 로 제한합니다.
+ * 두 쿼리의 자리를 함께 얻은 뒤에만 보내므로 한쪽만 실행된 채 다른 쪽이 자리를 기다리는 일은 없습니다.
+ */
+@Log4j2
+@Component
+public class ParallelPageQuery implements AutoCloseable {
+
+    private static final int QUERIES_PER_PAGE = 2;
+
+    private final SimpleAsyncTaskExecutor executor;
+    private final TodoProperties todoProperties;
+    // 실행 중인 쿼리 자리, 쿼리가 실제로 끝날 때 돌려받음 (시간 초과로 버린 쿼리도 DB 에서 끝날 때까지 자리를 차지)
+    private final Semaphore permits;
+
+    public ParallelPageQuery(TodoProperties todoProperties) {
+        this.todoProperties = todoProperties;
+        this.executor = new SimpleAsyncTaskExecutor("todo-page-query-");
+        this.executor.setVirtualThreads(true);
+        this.permits = new Semaphore(todoProperties.getList().getParallelMaxConcurrency());
+    }
+
+    /**
+     * 두 쿼리를 동시에 실행하고 둘 다 끝나면 결과를 합침
+     * todo.list.parallel-timeout 은 자리를 기다리는 시간부터 셉니다. 그 안에 자리를 얻지 못하면 쿼리를 보내지 않고 실패하고,
+     * 한쪽이 실패하거나 남은 시간 안에 끝나지 않으면 다른 쪽을 기다리지 않고 바로 실패합니다.
+     * (이미 DB 에 보낸 쿼리는 끝까지 실행된 뒤 결과가 버려짐)
+     *
+     * @param pageQuery  현재 페이지 목록 쿼리
+     * @param countQuery 전체 개수 쿼리
+     * @return 현재 페이지 목록과 전체 개수
+     * @throws DataAccessException 시간 초과 또는 대기 중 인터럽트
+     */
+    public <E> PagedResult<E> execute(Supplier<List<E>> pageQuery, Supplier<Integer> countQuery) {
+        long timeoutNanos = todoProperties.getList().getParallelTimeout().toNanos();
+        long deadline = System.nanoTime() + timeoutNanos;
+        try {
+            if (!permits.tryAcquire(QUERIES_PER_PAGE, timeoutNanos, TimeUnit.NANOSECONDS)) {
+                log.error("목록/개수 조회 자리를 {}ms 안에 얻지 못했습니다.", TimeUnit.NANOSECONDS.toMillis(timeoutNanos));
+                throw new DataAccessException("데이터 조회 요청이 많아 시간이 초과되었습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessException("데이터 조회가 중단되었습니다.");
+        }
+        CompletableFuture<List<E>> page = submit(pageQuery);
+        CompletableFuture<Integer> count = submit(countQuery);
+
+        // 어느 한쪽이라도 실패하면 다른 쪽을 기다리지 않도록 실패를 먼저 전달
+        CompletableFuture<Object> firstFailure = new CompletableFuture<>();
+        page.whenComplete((result, e) -> failFast(firstFailure, e));
+        count.whenComplete((result, e) -> failFast(firstFailure, e));
+
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(page, count), firstFailure)
+                    .get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            return new PagedResult<>(page.join(), count.join());
+        } catch (TimeoutException e) {
+            cancel(page, count);
+            log.error("목록/개수 조회가 {}ms 안에 끝나지 않았습니다.", TimeUnit.NANOSECONDS.toMillis(timeoutNanos));
+            throw new DataAccessException("데이터 조회 시간이 초과되었습니다.");
+        } catch (InterruptedException e) {
+            cancel(page, count);
+            Thread.currentThread().interrupt();
+            throw new DataAccessException("데이터 조회가 중단되었습니다.");
+        } catch (ExecutionException | CompletionException e) {
+            cancel(page, count);
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new DataAccessException("데이터 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 자리를 얻은 쿼리 하나를 가상 스레드에서 실행, 끝나면(실패, 결과를 버린 경우 포함) 자리를 돌려줌
+     * 실행을 시작하지 못하면 그 쿼리의 자리만 바로 돌려주고 예외를 던짐
+     */
+    private <T> CompletableFuture<T> submit(Supplier<T> query) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(query.get());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        return future;
+    }
+
+    private static void failFast(CompletableFuture<Object> firstFailure, Throwable e) {
+        if (e != null) {
+            firstFailure.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+        }
+    }
+
+    private static void cancel(CompletableFuture<?> page, CompletableFuture<?> count) {
+        page.cancel(true);
+        count.cancel(true);
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.todo.service;
+
+import com.example.todo.config.CacheConfig;
+import com.example.todo.exception.TodoNotFoundException;
+import com.example.todo.repository.TodoRepository;
+import lombok.extern.log4j.Log4j2;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * 일정 비밀번호 해시/검증
+ * 새 비밀번호는 BCrypt 해시로 저장하고, 평문으로 저장된 기존 일정은 검증에 성공할 때 해시로 옮깁니다.
+ * 수정 페이지에서 한 번 확인한 뒤에는 짧게 유효한 토큰을 발급해 저장 요청에서 해시 검증을 다시 하지 않습니다.
+ */
+@Log4j2
+@Component
+public class PasswordVerifier {
+
+    // BCrypt 해시 형식 ($2a$10$ + 53자), 이 형식이 아니면 평문으로 저장된 기존 비밀번호
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[aby]?\\$\\d\\d\\$[./A-Za-z0-9]{53}$");
+    private static final int TOKEN_BYTES = 32;
+
+    private final TodoRepository todoRepository;
+    private final PasswordEncoder passwordEncoder;
+    // 토큰 사용을 원자적으로 처리하려고 Caffeine 캐시를 직접 사용 (token -> Verification)
+    // 만료는 발급 시각 기준이라(CacheConfig) 사용/되돌림으로 값을 바꿔도 유효 시간이 늘지 않음
+    private final Cache<Object, Object> verificationCache;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public PasswordVerifier(TodoRepository todoRepository, PasswordEncoder passwordEncoder, CacheManager cacheManager) {
+        this.todoRepository = todoRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.verificationCache = ((CaffeineCache) cacheManager.getCache(CacheConfig.PASSWORD_VERIFICATION)).getNativeCache();
+    }
+
+    /**
+     * 저장할 비밀번호 해시 생성
+     */
+    public String hash(String rawPassword) {
+        return passwordEncoder.encode(rawPassword);
+    }
+
+    /**
+     * 입력한 비밀번호가 일정의 비밀번호와 같은지 검증
+     * 평문으로 저장된 일정은 일정한 시간에 비교하고, 일치하면 해시로 바꿔 저장합니다.
+     *
+     * @param id          일정 ID
+     * @param rawPassword 입력한 비밀번호
+     * @return 일치 여부
+     * @throws TodoNotFoundException 해당 ID의 일정이 없는 경우
+     */
+    public boolean matches(int id, String rawPassword) {
+        String stored = todoRepository.findPasswordById(id)
+                .orElseThrow(() -> new TodoNotFoundException("일정을 찾을 수 없습니다"));
+        if (rawPassword == null) {
+            return false;
+        }
+        if (BCRYPT_PATTERN.matcher(stored).matches()) {
+            return passwordEncoder.matches(rawPassword, stored);
+        }
+        boolean matched = MessageDigest.isEqual(
+                stored.getBytes(StandardCharsets.UTF_8), rawPassword.getBytes(StandardCharsets.UTF_8));
+        if (matched) {
+            todoRepository.updatePassword(id, hash(rawPassword));
+            log.info("평문으로 저장된 비밀번호를 해시로 변경했습니다. ID: {}", id);
+        }
+        return matched;
+    }
+
+    /**
+     * 비밀번호를 검증하고 일치하면 수정용 토큰 발급
+     * 토큰은 todo.password.verification-ttl 동안 한 번만 쓸 수 있습니다.
+     *
+     * @return 발급한 토큰, 비밀번호가 틀리면 null
+     */
+    public String issueToken(int id, String rawPassword) {
+        if (!matches(id, rawPassword)) {
+            return null;
+        }
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        verificationCache.put(token, new Verification(id, false));
+        return token;
+    }
+
+    /**
+     * 수정용 토큰을 사용 (같은 일정에 발급된 쓰지 않은 유효한 토큰이면 true, 사용한 토큰은 사용됨으로 표시)
+     * 같은 토큰으로 동시에 저장해도 한 요청만 성공하도록 조회와 표시를 한 번에 처리합니다.
+     */
+    public boolean consumeToken(int id, String token) {
+        if (token == null || token.isBlank()) {
+            return false;
+        }
+        boolean[] consumed = new boolean[1];
+        verificationCache.asMap().computeIfPresent(token, (key, value) -> {
+            if (value instanceof Verification verification && verification.todoId() == id && !verification.consumed()) {
+                consumed[0] = true;
+                return new Verification(id, true);
+            }
+            return value;
+        });
+        return consumed[0];
+    }
+
+    /**
+     * 사용한 토큰을 되돌림
+     * 토큰을 쓴 수정이 충돌 등으로 반영되지 않았을 때 같은 폼에서 다시 저장할 수 있게 합니다.
+     * 처음 발급한 시각 기준의 남은 시간만 유효하고, 그사이 만료됐거나 발급한 적 없는 토큰은 되살리지 않습니다.
+     */
+    public void restoreToken(int id, String token) {
+        if (token == null || token.isBlank()) {
+            return;
+        }
+        verificationCache.asMap().computeIfPresent(token, (key, value) ->
+                value instanceof Verification verification && verification.todoId() == id && verification.consumed()
+                        ? new Verification(id, false)
+                        : value);
+    }
+
+    /**
+     * 발급한 수정용 토큰의 상태
+     * @param todoId   토큰을 발급한 일정 ID
+     * @param consumed 이미 사용했는지 여부
+     */
+    private record Verification(int todoId, boolean consumed) {
+    }
+}
@@ -2,22 +2,30 @@ package com.example.todo.service;
 
 import com.example.todo.dto.PageRequestDto;
 import com.example.todo.dto.PageResponseDto;
+import com.example.todo.dto.TodoListItemDto;
 import com.example.todo.dto.TodoRequestDto;
 import com.example.todo.dto.TodoResponseDto;
 import com.example.todo.entity.TodoEntity;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TodoService {
     int registerTodoList(TodoRequestDto requestDto);//삽입된 행 개수를 반환하기 위함
+    List<Integer> registerTodoListBatch(List<TodoRequestDto> requestDtos); //일괄 등록, 생성된 ID 목록 반환
     int updateTodoList(int id, TodoRequestDto requestDto);
     int deleteTodoList(int id, String password);
     TodoResponseDto findById(int id); // 특정  ID를 이용해 할일을 조회하고, DTO올 반환;
-    boolean completedTodo(int id);
+    boolean completedTodo(int id, String password); // 비밀번호 확인 후 완료 상태 반전
+    int completedTodos(List<Integer> ids, Boolean completed, String password); // 모든 일정의 비밀번호 확인 후 완료 상태 변경 (completed 가 null 이면 반전)
     boolean checkPassword(int id, String password);
-    PageResponseDto<TodoRequestDto> getList(PageRequestDto pageRequestDto);
+    String issueUpdateToken(int id, String password); // 비밀번호 확인 후 수정용 토큰 발급 (틀리면 null)
+    PageResponseDto<TodoListItemDto> getList(PageRequestDto pageRequestDto);
+    PageResponseDto<TodoListItemDto> getListByCursor(PageRequestDto pageRequestDto); // 커서 기반 목록 조회
     int getCount(PageRequestDto pageRequestDto);
+    long getListVersion(); // 목록 응답의 ETag 값, 일정이 등록/수정/삭제/완료 처리되면 바뀜
+    void exportTodos(Consumer<TodoResponseDto> consumer); // 전체 일정을 한 건씩 전달 (내보내기)
 
-    PageResponseDto<TodoRequestDto> searchByAuthor(PageRequestDto pageRequestDto);
-    PageResponseDto<TodoRequestDto> searchByTitle(PageRequestDto pageRequestDto);
+    PageResponseDto<TodoListItemDto> searchByAuthor(PageRequestDto pageRequestDto);
+    PageResponseDto<TodoListItemDto> searchByTitle(PageRequestDto pageRequestDto);
 }
@@ -1,33 +1,67 @@
 package com.example.todo.service;
 
+import com.example.todo.config.CacheConfig;
+import com.example.todo.config.TodoProperties;
 import com.example.todo.dto.PageRequestDto;
 import com.example.todo.dto.PageResponseDto;
+import com.example.todo.dto.TodoCursor;
+import com.example.todo.dto.TodoListItemDto;
 import com.example.todo.dto.TodoRequestDto;
 import com.example.todo.dto.TodoResponseDto;
 import com.example.todo.entity.AuthorEntity;
 import com.example.todo.entity.TodoEntity;
 import com.example.todo.exception.DataAccessException;
 import com.example.todo.exception.PasswordException;
+import com.example.todo.exception.TodoConflictException;
 import com.example.todo.exception.TodoNotFoundException;
 import com.example.todo.exception.TodoSaveException;
+import com.example.todo.exception.ValidationExceptions;
 import com.example.todo.repository.AuthorRepository;
+import com.example.todo.repository.PagedResult;
 import com.example.todo.repository.TodoRepository;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 @Log4j2
 @Service
 public class TodoServiceImpl implements TodoService{
     private final TodoRepository todoRepository;
     private final AuthorRepository authorRepository;
-    public TodoServiceImpl(AuthorRepository authorRepository, TodoRepository todoRepository) {
+    private final TodoProperties todoProperties;
+    private final Cache totalCountCache;
+    private final Cache listPageCache;
+    private final TodoWriteVersion todoWriteVersion;
+    private final ParallelPageQuery parallelPageQuery;
+    private final PasswordVerifier passwordVerifier;
+    private final TodoWriteBehindQueue writeBehindQueue;
+    private final TransactionTemplate transactionTemplate;
+    public TodoServiceImpl(AuthorRepository authorRepository, TodoRepository todoRepository,
+                           TodoProperties todoProperties, CacheManager cacheManager,
+                           TodoWriteVersion todoWriteVersion, ParallelPageQuery parallelPageQuery,
+                           PasswordVerifier passwordVerifier, TodoWriteBehindQueue writeBehindQueue,
+                           PlatformTransactionManager transactionManager) {
         this.authorRepository = authorRepository;
         this.todoRepository = todoRepository;
+        this.todoProperties = todoProperties;
+        this.totalCountCache = cacheManager.getCache(CacheConfig.TOTAL_COUNT);
+        this.listPageCache = cacheManager.getCache(CacheConfig.LIST_PAGE);
+        this.todoWriteVersion = todoWriteVersion;
+        this.parallelPageQuery = parallelPageQuery;
+        this.passwordVerifier = passwordVerifier;
+        this.writeBehindQueue = writeBehindQueue;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
     /**
      * 일정 목록을 조회
@@ -36,28 +70,31 @@ public class TodoServiceImpl implements TodoService{
      * @throws DataAccessException 데이터 조회 중 오류 발생 시
      */
     @Override
-    public PageResponseDto<TodoRequestDto> getList(PageRequestDto pageRequestDto) {
+    public PageResponseDto<TodoListItemDto> getList(PageRequestDto pageRequestDto) {
+        return withPendingChanges(pageRequestDto, cachedPage("list", pageRequestDto, () -> loadList(pageRequestDto)));
+    }
+
+    private PageResponseDto<TodoListItemDto> loadList(PageRequestDto pageRequestDto) {
+        // 작성자로 거르지 않은 전체 목록은 window 모드면 테이블 전체를 읽으므로 따로 정한 방식을 씀
+        TodoProperties.TotalMode totalMode = normalize(pageRequestDto.getAuthorName()).isEmpty()
+                ? todoProperties.getList().getUnfilteredTotalMode()
+                : todoProperties.getList().getTotalMode();
         try {
-            // DB에서 가져온 엔티티 목록
-            List<TodoEntity> entityList = todoRepository.getList(pageRequestDto);
-            log.info("조회된 엔티티 수:", entityList.size());
-            // 데이터가 없는 경우
-
-            // Entity -> DTO 변환
-            List<TodoRequestDto> dtoList = entityList.stream()
-                    .map(TodoRequestDto::new)
-                    .collect(Collectors.toList());
-
-            // 전체 데이터 개수 조회
-            int total = todoRepository.getCount(pageRequestDto);
-            log.info("전체 데이터 개수:", total);
-
-            // 페이지 응답 객체 생성
-            return PageResponseDto.<TodoRequestDto>withAll()
-                    .dtoList(dtoList)
-                    .total(total)
-                    .pageRequestDto(pageRequestDto)
-                    .build();
+            if (totalMode == TodoProperties.TotalMode.CACHED) {
+                List<TodoListItemDto> itemList = todoRepository.getList(pageRequestDto);
+                int total = cachedTotal("list:" + pageRequestDto.getAuthorName(), () -> todoRepository.getCount(pageRequestDto));
+                return toPageResponse(pageRequestDto, itemList, total, true);
+            }
+            if (totalMode == TodoProperties.TotalMode.PARALLEL) {
+                // 목록과 전체 개수를 동시에 조회
+                PagedResult<TodoListItemDto> result = parallelPageQuery.execute(
+                        () -> todoRepository.getList(pageRequestDto), () -> todoRepository.getCount(pageRequestDto));
+                return toPageResponse(pageRequestDto, result.getEntityList(), result.getTotal(), false);
+            }
+            // 목록과 전체 개수를 한 번의 쿼리로 조회
+            PagedResult<TodoListItemDto> result = todoRepository.getListWithTotal(pageRequestDto);
+            log.info("조회된 엔티티 수: {}, 전체 데이터 개수: {}", result.getEntityList().size(), result.getTotal());
+            return toPageResponse(pageRequestDto, result.getEntityList(), result.getTotal(), false);
         } catch (Exception e) {
             log.error("데이터 조회 중 오류 발생:", e.getMessage());
             throw new DataAccessException("데이터 조회 중 오류가 발생했습니다.");
@@ -65,6 +102,39 @@ public class TodoServiceImpl implements TodoService{
     }
 
 
+    /**
+     * 커서 기반으로 일정 목록을 조회
+     * 한 건을 더 읽어 다음 페이지가 있는지 판단하고, 있으면 마지막 행으로 nextCursor 를 만듭니다.
+     * @param pageRequestDto 페이징 요청 정보 (cursor, size)
+     * @return 페이지 응답 DTO (nextCursor 포함)
+     * @throws DataAccessException 데이터 조회 중 오류 발생 시
+     */
+    @Override
+    public PageResponseDto<TodoListItemDto> getListByCursor(PageRequestDto pageRequestDto) {
+        int size = pageRequestDto.getSize();
+        List<TodoListItemDto> itemList;
+        try {
+            itemList = todoRepository.getListByCursor(pageRequestDto, size + 1);
+        } catch (org.springframework.dao.DataAccessException e) {
+            log.error("데이터 조회 중 오류 발생: {}", e.getMessage());
+            throw new DataAccessException("데이터 조회 중 오류가 발생했습니다.");
+        }
+
+        String nextCursor = null;
+        if (itemList.size() > size) {
+            itemList = itemList.subList(0, size);
+            // 커서는 SQL 정렬과 같은 DB 값으로 만들고, 쓰기 지연 대기열의 변경은 응답 항목에만 덧씌움
+            TodoListItemDto last = itemList.get(size - 1);
+            nextCursor = new TodoCursor(last.isCompleted(), last.isOverdue(), last.getDueDate(), last.getId()).encode();
+        }
+
+        return PageResponseDto.<TodoListItemDto>withCursor()
+                .dtoList(writeBehindQueue.overlay(itemList))
+                .nextCursor(nextCursor)
+                .pageRequestDto(pageRequestDto)
+                .build();
+    }
+
     /**
      * 기능 : 단건 조회
      * Optional 처리로 조회되지 않으면 예외 던지고 조회된 엔티티를 응답 DTO로 변환
@@ -79,7 +149,7 @@ public class TodoServiceImpl implements TodoService{
         TodoEntity todoEntity = optionalTodo.orElseThrow(() -> new TodoNotFoundException("해당 ID의 일정이 존재하지 않습니다."));
 
         System.out.println("조회된 일정 ID: " + todoEntity.getId());
-        return toResponseDto(todoEntity);
+        return toResponseDto(writeBehindQueue.overlay(todoEntity));
     }
 
     /**
@@ -90,37 +160,25 @@ public class TodoServiceImpl implements TodoService{
      * @throws TodoSaveException 일정 등록 중 오류 발생 시
      */
     @Override
-    @Transactional
     public int registerTodoList(TodoRequestDto requestDto) {
         try {
             log.info("일정 등록 요청: {}", requestDto);
-            // 1. 작성자 정보 저장 및 author_id 반환
-            AuthorEntity authorEntity = AuthorEntity.builder()
-                    .authorName(requestDto.getAuthorName())
-                    .email(requestDto.getEmail())
-                    .createdAt(LocalDateTime.now())
-                    .updatedAt(LocalDateTime.now())
-                    .build();
-            int authorId = authorRepository.saveAuthor(authorEntity);
-
-            //2. 할 일 생성 엔티티
-            TodoEntity todoEntity = TodoEntity.builder()
-                    .title(requestDto.getTitle())
-                    .description(requestDto.getDescription())
-                    .authorId(authorId)
-                    .password(requestDto.getPassword())
-                    .completed(false)
-                    .dueDate(requestDto.getDueDate())
-                    .createdAt(LocalDateTime.now())
-                    .updatedAt(LocalDateTime.now())
-                    .authorName(requestDto.getAuthorName())  // 💡 추가
-                    .email(requestDto.getEmail())  // 💡 추가
-                    .build();
-
-
-            // 3. 할 일 등록
-            int todoId = todoRepository.registerTodoList(todoEntity, authorId);
+            // BCrypt 해시는 느리므로 트랜잭션(커넥션)을 잡기 전에 계산
+            String passwordHash = passwordVerifier.hash(requestDto.getPassword());
+            int todoId = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                // 1. 작성자 조회 또는 저장 후 author_id 반환 (email 이 같은 작성자는 재사용)
+                int authorId = authorRepository.findOrCreateAuthorId(toAuthorEntity(requestDto, now));
+
+                //2. 할 일 생성 엔티티
+                TodoEntity todoEntity = toTodoEntity(requestDto, authorId, passwordHash, now);
+
+
+                // 3. 할 일 등록
+                return todoRepository.registerTodoList(todoEntity, authorId);
+            });
             log.info("할 일 등록 성공 : ", todoId);
+            todoWriteVersion.bump();
 
             return todoId;
         }catch (Exception e) {
@@ -129,30 +187,139 @@ public class TodoServiceImpl implements TodoService{
         }
     }
 
+    /**
+     * 기능 : 여러 Todo를 한 번에 등록합니다
+     * 비밀번호 해시는 트랜잭션을 열기 전에 병렬로 계산하고 (행마다 수십 ms 라 트랜잭션 안에서 하면 타임아웃을 넘김),
+     * todo.batch.size 개씩 나누어 작성자와 일정을 JDBC 배치로 저장하며, 저장은 전체가 하나의 트랜잭션으로 처리됩니다.
+     * @param requestDtos 등록할 Todo 요청 DTO 목록
+     * @return 저장된 Todo의 ID 목록 (요청 순서와 같음)
+     * @throws ValidationExceptions 요청 건수가 todo.batch.max-items 를 넘는 경우
+     * @throws TodoSaveException 일정 등록 중 오류 발생 시 (전체 롤백)
+     */
+    @Override
+    public List<Integer> registerTodoListBatch(List<TodoRequestDto> requestDtos) {
+        int maxItems = todoProperties.getBatch().getMaxItems();
+        if (requestDtos.size() > maxItems) {
+            throw new ValidationExceptions("한 번에 등록할 수 있는 일정은 최대 " + maxItems + "건입니다. (요청 " + requestDtos.size() + "건)");
+        }
+        int batchSize = todoProperties.getBatch().getSize();
+        try {
+            // BCrypt 는 CPU 작업이라 공용 ForkJoinPool(코어 수) 크기로 나눠 계산, 순서는 요청 순서 유지
+            List<String> passwordHashes = requestDtos.parallelStream()
+                    .map(requestDto -> passwordVerifier.hash(requestDto.getPassword()))
+                    .toList();
+
+            List<Integer> todoIds = transactionTemplate.execute(status -> {
+                List<Integer> savedIds = new ArrayList<>(requestDtos.size());
+                for (int from = 0; from < requestDtos.size(); from += batchSize) {
+                    int to = Math.min(from + batchSize, requestDtos.size());
+                    List<TodoRequestDto> chunk = requestDtos.subList(from, to);
+                    LocalDateTime now = LocalDateTime.now();
+
+                    // 1. 작성자 일괄 조회/저장 (email 이 같은 작성자는 재사용)
+                    List<AuthorEntity> authorEntities = chunk.stream()
+                            .map(requestDto -> toAuthorEntity(requestDto, now))
+                            .collect(Collectors.toList());
+                    int[] authorIds = authorRepository.findOrCreateAuthorIds(authorEntities);
+
+                    // 2. 일정 일괄 저장
+                    List<TodoEntity> todoEntities = new ArrayList<>(chunk.size());
+                    for (int i = 0; i < chunk.size(); i++) {
+                        todoEntities.add(toTodoEntity(chunk.get(i), authorIds[i], passwordHashes.get(from + i), now));
+                    }
+                    for (int todoId : todoRepository.registerTodoLists(todoEntities)) {
+                        savedIds.add(todoId);
+                    }
+                }
+                return savedIds;
+            });
+            log.info("일정 일괄 등록 성공 : {}건", todoIds.size());
+            todoWriteVersion.bump();
+            return todoIds;
+        } catch (Exception e) {
+            log.error("일정 일괄 등록 중 오류 발생 : {}", e.getMessage());
+            throw new TodoSaveException("일정 일괄 등록 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    private AuthorEntity toAuthorEntity(TodoRequestDto requestDto, LocalDateTime now) {
+        return AuthorEntity.builder()
+                .authorName(requestDto.getAuthorName())
+                .email(requestDto.getEmail())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private TodoEntity toTodoEntity(TodoRequestDto requestDto, int authorId, String passwordHash, LocalDateTime now) {
+        return TodoEntity.builder()
+                .title(requestDto.getTitle())
+                .description(requestDto.getDescription())
+                .authorId(authorId)
+                .password(passwordHash)
+                .completed(false)
+                .dueDate(requestDto.getDueDate())
+                .createdAt(now)
+                .updatedAt(now)
+                .authorName(requestDto.getAuthorName())
+                .email(requestDto.getEmail())
+                .build();
+    }
+
     /**
      * 기능 :  Todo를 수정
      * @param id        수정할 Todo의 ID
      * @param requestDto 수정 요청 DTO
      * @return 수정된 Todo의 ID
      * @throws TodoNotFoundException 해당 ID의 Todo를 찾을 수 없는 경우
-     * @throws IllegalArgumentException 비밀번호가 일치하지 않는 경우
+     * @throws PasswordException 비밀번호(또는 수정 토큰)가 일치하지 않는 경우
+     * @throws TodoConflictException 읽은 이후 다른 요청이 먼저 수정한 경우
      */
     @Override
     public int updateTodoList(int id, TodoRequestDto requestDto) throws TodoNotFoundException {
-        TodoEntity todo = todoRepository.findById(id)
-                .orElseThrow(() -> new TodoNotFoundException("일정을 찾을 수 없습니다"));
+        // 수정 페이지에서 발급한 토큰이 있으면 해시 검증을 다시 하지 않음
+        String token = requestDto.getVerificationToken();
+        boolean tokenConsumed = passwordVerifier.consumeToken(id, token);
+        if (!tokenConsumed && !passwordVerifier.matches(id, requestDto.getPassword())) {
+            throw new PasswordException("비밀번호가 일치하지 않습니다");
+        }
+        try {
+            return applyUpdate(id, requestDto);
+        } catch (RuntimeException e) {
+            // 반영되지 않았으면 토큰을 되돌려 같은 수정 폼에서 다시 저장할 수 있게 함
+            if (tokenConsumed) {
+                passwordVerifier.restoreToken(id, token);
+            }
+            throw e;
+        }
+    }
 
-        if(!todo.getPassword().equals(requestDto.getPassword())){
-            throw new TodoNotFoundException("비밀번호가 일치하지 않습니다");
+    private int applyUpdate(int id, TodoRequestDto requestDto) {
+        if (writeBehindQueue.isEnabled()) {
+            // 대기열에 넣고 바로 응답, 충돌 검사는 대기 중인 변경까지 포함한 버전 기준
+            if (!writeBehindQueue.update(id, requestDto.getVersion(), requestDto.getTitle(), requestDto.getDescription(),
+                    requestDto.getDueDate(), requestDto.isCompleted())) {
+                throw new TodoNotFoundException("일정을 찾을 수 없습니다");
+            }
+            todoWriteVersion.bump();
+            return 1;
         }
+        TodoEntity todo = todoRepository.findById(id)
+                .orElseThrow(() -> new TodoNotFoundException("일정을 찾을 수 없습니다"));
 
         todo.setTitle(requestDto.getTitle());
         todo.setDescription(requestDto.getDescription());
         todo.setCompleted(requestDto.isCompleted());
         todo.setDueDate(requestDto.getDueDate());
         todo.setUpdatedAt(LocalDateTime.now());
+        if (requestDto.getVersion() != null) {
+            // 클라이언트가 읽었던 버전 기준으로 충돌 검사
+            todo.setVersion(requestDto.getVersion());
+        }
 
-        return todoRepository.updateTodoList(todo);
+        int rows = todoRepository.updateTodoList(todo);
+        todoWriteVersion.bump();
+        return rows;
 
     }
 
@@ -163,32 +330,82 @@ public class TodoServiceImpl implements TodoService{
      * @param password 삭제할 Todo의 비밀번호
      * @return 삭제된 행의 수
      * @throws TodoNotFoundException 해당 ID의 Todo를 찾을 수 없는 경우
-     * @throws IllegalArgumentException 비밀번호가 일치하지 않는 경우
+     * @throws PasswordException 비밀번호가 일치하지 않는 경우
      */
     @Override
     public int deleteTodoList(int id, String password) {
-        TodoEntity todo = todoRepository.findById(id)
-                .orElseThrow(() -> new TodoNotFoundException("일정을 찾을 수 없습니다"));
-        if(!todo.getPassword().equals(password)){
+        if (!passwordVerifier.matches(id, password)) {
             throw new PasswordException("비밀번호가 일치하지 않습니다");
         }
-        return todoRepository.deleteTodoList(id, password);
+        int rows = todoRepository.deleteTodoList(id, password);
+        writeBehindQueue.discard(id);
+        todoWriteVersion.bump();
+        return rows;
     }
 
 
     /**
      * Todo 완료 상태를 반전
+     * 쓰기 지연 대기열을 사용하면 대기열에 넣고 바로 반전된 값을 돌려줍니다. (DB 반영은 TodoWriteBehindQueue.flush)
      * @param id 완료 상태를 변경할 Todo의 ID
+     * @param password 해당 Todo의 비밀번호
      * @return 변경된 완료 상태 (true: 완료, false: 미완료)
      * @throws TodoNotFoundException 해당 ID의 Todo를 찾을 수 없는 경우
+     * @throws PasswordException 비밀번호가 일치하지 않는 경우
      */
     @Override
-    public boolean completedTodo(int id) {
-        TodoEntity entity = todoRepository.findById(id)
+    public boolean completedTodo(int id, String password) {
+        if (!passwordVerifier.matches(id, password)) {
+            throw new PasswordException("비밀번호가 일치하지 않습니다");
+        }
+        Optional<Boolean> toggled = writeBehindQueue.isEnabled()
+                ? writeBehindQueue.toggleCompleted(id)
+                : todoRepository.toggleCompleted(id);
+        boolean completed = toggled
                 .orElseThrow(() -> new TodoNotFoundException("일정을 찾을 수 없습니다. ID: " + id));
-        entity.setCompleted(!entity.isCompleted());
-        todoRepository.updateTodoList(entity);
-        return entity.isCompleted();
+        todoWriteVersion.bump();
+        return completed;
+    }
+
+    /**
+     * 여러 Todo의 완료 상태를 한 번에 변경
+     * 모든 일정의 비밀번호를 먼저 확인하고, 하나라도 틀리면 아무것도 바꾸지 않습니다.
+     * @param ids       변경할 Todo ID 목록
+     * @param completed 변경할 완료 상태, null 이면 각각 반전
+     * @param password  변경할 Todo들의 비밀번호
+     * @return 변경된 행의 수
+     * @throws TodoNotFoundException 목록에 없는 ID가 있는 경우
+     * @throws PasswordException 비밀번호가 일치하지 않는 일정이 있는 경우
+     */
+    @Override
+    public int completedTodos(List<Integer> ids, Boolean completed, String password) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        for (int id : ids) {
+            if (!passwordVerifier.matches(id, password)) {
+                throw new PasswordException("비밀번호가 일치하지 않습니다. ID: " + id);
+            }
+        }
+        if (writeBehindQueue.isEnabled()) {
+            // 같은 일정의 즉시 반영과 대기열 반영이 섞여 순서가 바뀌지 않도록 모두 대기열로 보냄
+            int queued = 0;
+            for (int id : ids) {
+                boolean found = completed == null
+                        ? writeBehindQueue.toggleCompleted(id).isPresent()
+                        : writeBehindQueue.setCompleted(id, completed);
+                if (found) {
+                    queued++;
+                }
+            }
+            todoWriteVersion.bump();
+            return queued;
+        }
+        int rows = completed == null
+                ? todoRepository.toggleCompleted(ids)
+                : todoRepository.setCompleted(ids, completed);
+        todoWriteVersion.bump();
+        return rows;
     }
 
     /**
@@ -199,13 +416,18 @@ public class TodoServiceImpl implements TodoService{
      */
     @Override
     public boolean checkPassword(int id, String password) {
-        TodoEntity todo = todoRepository.findById(id)
-                .orElseThrow( () -> new TodoNotFoundException("일정을 찾을 수 없습니다"));
-        log.info("입력된 비밀번호: " + password );
-        log.info("DB저장된 비밀번호: " + todo.getPassword());
-        log.info("비밀번호 일치 여부: " + todo.getPassword().equals(password));
+        return passwordVerifier.matches(id, password);
+    }
 
-        return todo.getPassword().equals(password);
+    /**
+     * 수정 페이지 진입 시 비밀번호를 검증하고 저장 요청에 쓸 토큰 발급
+     * @param id, password
+     * @return 발급된 토큰, 비밀번호가 일치하지 않으면 null
+     * @throws TodoNotFoundException 해당 ID의 Todo를 찾을 수 없는 경우
+     */
+    @Override
+    public String issueUpdateToken(int id, String password) {
+        return passwordVerifier.issueToken(id, password);
     }
 
     @Override
@@ -213,47 +435,173 @@ public class TodoServiceImpl implements TodoService{
         return 0;
     }
 
+    /**
+     * 목록 응답 검증 값 (쓰기 버전)
+     * 조회 없이 알 수 있으므로, 값이 같으면 목록을 다시 조회하지 않고 304 로 응답할 수 있습니다.
+     * (cached 모드의 전체 개수처럼 쓰기 없이 바뀌는 근사값은 반영되지 않음)
+     */
     @Override
-    public PageResponseDto<TodoRequestDto> searchByAuthor(PageRequestDto pageRequestDto) {
-        try {
-            List<TodoEntity> entitiyList = todoRepository.searchByAuthor(pageRequestDto);
-
-            List<TodoRequestDto> dtoList = entitiyList.stream()
-                    .map(TodoRequestDto::new)
-                    .collect(Collectors.toList());
-            int total = todoRepository.getCount(pageRequestDto);
+    public long getListVersion() {
+        return todoWriteVersion.current();
+    }
 
+    @Override
+    public PageResponseDto<TodoListItemDto> searchByAuthor(PageRequestDto pageRequestDto) {
+        return withPendingChanges(pageRequestDto, cachedPage("authorName", pageRequestDto, () -> loadByAuthor(pageRequestDto)));
+    }
 
-            return PageResponseDto.<TodoRequestDto>withAll()
-                    .dtoList(dtoList)
-                    .total(total)
-                    .pageRequestDto(pageRequestDto)
-                    .build();
+    private PageResponseDto<TodoListItemDto> loadByAuthor(PageRequestDto pageRequestDto) {
+        try {
+            if (isCachedTotalMode()) {
+                List<TodoListItemDto> itemList = todoRepository.searchByAuthor(pageRequestDto);
+                int total = cachedTotal("author:" + pageRequestDto.getQuery(),
+                        () -> todoRepository.getCountByAuthor(pageRequestDto.getQuery()));
+                return toPageResponse(pageRequestDto, itemList, total, true);
+            }
+            if (isParallelTotalMode()) {
+                PagedResult<TodoListItemDto> result = parallelPageQuery.execute(
+                        () -> todoRepository.searchByAuthor(pageRequestDto), () -> todoRepository.getCountByAuthor(pageRequestDto.getQuery()));
+                return toPageResponse(pageRequestDto, result.getEntityList(), result.getTotal(), false);
+            }
+            PagedResult<TodoListItemDto> result = todoRepository.searchByAuthorWithTotal(pageRequestDto);
+            return toPageResponse(pageRequestDto, result.getEntityList(), result.getTotal(), false);
         } catch (Exception e) {
             throw new DataAccessException("데이터 조회 중 오류가 발생했습니다.");
         }
     }
 
     @Override
-    public PageResponseDto<TodoRequestDto> searchByTitle(PageRequestDto pageRequestDto) {
+    public PageResponseDto<TodoListItemDto> searchByTitle(PageRequestDto pageRequestDto) {
+        return withPendingChanges(pageRequestDto, cachedPage("title", pageRequestDto, () -> loadByTitle(pageRequestDto)));
+    }
+
+    private PageResponseDto<TodoListItemDto> loadByTitle(PageRequestDto pageRequestDto) {
         try {
+            if (isCachedTotalMode()) {
+                List<TodoListItemDto> itemList = todoRepository.searchByTitle(pageRequestDto);
+                int total = cachedTotal("title:" + pageRequestDto.getQuery(),
+                        () -> todoRepository.getCountByTitle(pageRequestDto.getQuery()));
+                return toPageResponse(pageRequestDto, itemList, total, true);
+            }
+            if (isParallelTotalMode()) {
+                PagedResult<TodoListItemDto> result = parallelPageQuery.execute(
+                        () -> todoRepository.searchByTitle(pageRequestDto), () -> todoRepository.getCountByTitle(pageRequestDto.getQuery()));
+                return toPageResponse(pageRequestDto, result.getEntityList(), result.getTotal(), false);
+            }
+            PagedResult<TodoListItemDto> result = todoRepository.searchByTitleWithTotal(pageRequestDto);
+            return toPageResponse(pageRequestDto, result.getEntityList(), result.getTotal(), false);
+        } catch (Exception e) {
+            
+            throw new DataAccessException("데이터 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 목록 페이지 응답을 캐시에서 꺼내고, 없으면 조회하여 캐시에 보관
+     * 키에 현재 쓰기 버전이 들어가므로 일정이 바뀐 뒤에는 새로 조회합니다.
+     * @param searchType 목록 종류 (list, authorName, title)
+     * @param pageRequestDto 페이징 요청 정보
+     * @param loader 캐시에 없을 때 실행할 조회
+     * @return 페이지 응답 DTO
+     */
+    private PageResponseDto<TodoListItemDto> cachedPage(String searchType, PageRequestDto pageRequestDto,
+                                                       Supplier<PageResponseDto<TodoListItemDto>> loader) {
+        if (!todoProperties.getCache().isListEnabled()) {
+            return loader.get();
+        }
+        ListPageKey key = new ListPageKey(todoWriteVersion.current(), searchType,
+                normalize(pageRequestDto.getQuery()), normalize(pageRequestDto.getAuthorName()),
+                pageRequestDto.getPage(), pageRequestDto.getSize());
+
+        @SuppressWarnings("unchecked")
+        PageResponseDto<TodoListItemDto> cached = listPageCache.get(key, PageResponseDto.class);
+        if (cached != null) {
+            return cached;
+        }
+        PageResponseDto<TodoListItemDto> loaded = loader.get();
+        listPageCache.put(key, loaded);
+        return loaded;
+    }
+
+    /**
+     * 쓰기 지연 대기열에 있는 변경을 목록 항목에 덧씌움
+     * 캐시에는 DB 에 반영된 값만 보관하고, 반영 전 변경은 응답할 때마다 덧씌웁니다.
+     */
+    private PageResponseDto<TodoListItemDto> withPendingChanges(PageRequestDto pageRequestDto, PageResponseDto<TodoListItemDto> page) {
+        if (!writeBehindQueue.isEnabled() || page.getDtoList() == null) {
+            return page;
+        }
+        List<TodoListItemDto> itemList = writeBehindQueue.overlay(page.getDtoList());
+        if (itemList == page.getDtoList()) {
+            return page;
+        }
+        // 캐시에 보관된 응답 객체는 고치지 않고 새로 만듦
+        return toPageResponse(pageRequestDto, itemList, page.getTotal(), page.isApproximateTotal());
+    }
 
-            List<TodoEntity> entitiyList = todoRepository.searchByTitle(pageRequestDto);
+    private String normalize(String value) {
+        return value == null ? "" : value.trim();
+    }
 
-            List<TodoRequestDto> dtoList = entitiyList.stream()
-                    .map(TodoRequestDto::new)
-                    .collect(Collectors.toList());
-            int total = todoRepository.getCountByTitle(pageRequestDto.getQuery());
+    /**
+     * 목록 페이지 캐시 키
+     */
+    private record ListPageKey(long version, String searchType, String query, String authorName, int page, int size) {
+    }
 
+    private boolean isCachedTotalMode() {
+        return todoProperties.getList().getTotalMode() == TodoProperties.TotalMode.CACHED;
+    }
 
-            return PageResponseDto.<TodoRequestDto>withAll()
-                    .dtoList(dtoList)
-                    .total(total)
-                    .pageRequestDto(pageRequestDto)
-                    .build();
-        } catch (Exception e) {
-            
-            throw new DataAccessException("데이터 조회 중 오류가 발생했습니다.");
+    private boolean isParallelTotalMode() {
+        return todoProperties.getList().getTotalMode() == TodoProperties.TotalMode.PARALLEL;
+    }
+
+    /**
+     * 검색 조건별 전체 개수를 캐시에서 꺼내고, 없거나 만료되었으면 count 쿼리로 채움
+     * @param key        검색 조건을 나타내는 캐시 키
+     * @param countQuery 캐시에 없을 때 실행할 count 쿼리
+     * @return 전체 개수 (최대 todo.list.total-cache-ttl 만큼 오래된 값일 수 있음)
+     */
+    private int cachedTotal(String key, Supplier<Integer> countQuery) {
+        // Cache.get(key, loader) 는 ConcurrentHashMap 의 synchronized 구간 안에서 count 쿼리를 실행해
+        // 가상 스레드가 쿼리가 끝날 때까지 캐리어 스레드에 고정(pinning)되므로, 조회와 저장을 나눔
+        // (동시에 비어 있으면 count 쿼리가 중복 실행될 수 있지만 결과는 같음)
+        Integer total = totalCountCache.get(key, Integer.class);
+        if (total == null) {
+            total = countQuery.get();
+            totalCountCache.put(key, total);
+        }
+        return total;
+    }
+
+    /**
+     * 조회된 목록 항목으로 페이지 응답 객체 생성
+     * 저장소에서 이미 응답 타입(TodoListItemDto)으로 매핑해 오므로 변환 없이 그대로 담습니다.
+     */
+    private PageResponseDto<TodoListItemDto> toPageResponse(PageRequestDto pageRequestDto, List<TodoListItemDto> itemList,
+                                                            int total, boolean approximateTotal) {
+        return PageResponseDto.<TodoListItemDto>withAll()
+                .dtoList(itemList)
+                .total(total)
+                .approximateTotal(approximateTotal)
+                .pageRequestDto(pageRequestDto)
+                .build();
+    }
+
+    /**
+     * 전체 일정을 id 순으로 한 건씩 응답 DTO 로 변환해 전달
+     * DB 에서 읽는 대로 넘기므로 전체를 메모리에 올리지 않습니다.
+     * @param consumer 일정마다 호출할 처리 (응답 스트림에 쓰기 등)
+     * @throws DataAccessException 데이터 조회 중 오류 발생 시
+     */
+    @Override
+    public void exportTodos(Consumer<TodoResponseDto> consumer) {
+        try {
+            todoRepository.streamAll(entity -> consumer.accept(toResponseDto(writeBehindQueue.overlay(entity))));
+        } catch (org.springframework.dao.DataAccessException e) {
+            log.error("일정 내보내기 중 오류 발생: {}", e.getMessage());
+            throw new DataAccessException("일정 내보내기 중 오류가 발생했습니다.");
         }
     }
 
@@ -272,6 +620,7 @@ public class TodoServiceImpl implements TodoService{
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .authorName(entity.getAuthorName())
+                .version(entity.getVersion())
                 .build();
     }
 }
@@ -0,0 +1,503 @@
+package com.example.todo.service;
+
+import com.example.todo.config.TodoProperties;
+import com.example.todo.dto.TodoListItemDto;
+import com.example.todo.entity.TodoEntity;
+import com.example.todo.exception.TodoConflictException;
+import com.example.todo.exception.TodoSaveException;
+import com.example.todo.repository.TodoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * 일정 완료 처리/수정을 모았다가 일괄 반영하는 쓰기 지연(write-behind) 대기열 (todo.write-behind.enabled=true 일 때 사용)
+ * 같은 일정의 변경은 마지막 상태 하나로 합쳐지고, todo.write-behind.flush-interval 마다 또는 대기 중인 일정이
+ * flush-batch-size 에 이르면 한 번의 JDBC 배치로 반영합니다.
+ * 반영 전 변경은 저널 파일에 먼저 기록해 프로세스가 중단되어도 재시작할 때 다시 반영하며 (동시에 들어온 요청의 fsync 는 한 번으로 묶음),
+ * 조회는 대기 중인 변경을 덧씌워 돌려주므로 요청한 사용자는 반영 전에도 자신의 변경을 봅니다.
+ * 대기 중인 변경은 이 인스턴스의 메모리에만 있으므로 애플리케이션을 여러 대로 실행할 때는 사용하지 않습니다.
+ */
+@Log4j2
+@Component
+public class TodoWriteBehindQueue implements AutoCloseable {
+
+    private final TodoRepository todoRepository;
+    private final TodoWriteVersion todoWriteVersion;
+    private final ObjectMapper objectMapper;
+    private final TodoProperties.WriteBehindProperties properties;
+
+    // 일정 ID -> 반영 대기 중인 최종 상태
+    private final Map<Integer, PendingChange> pending = new ConcurrentHashMap<>();
+    // 대기열 변경과 저널 기록 순서를 맞추는 잠금 (가상 스레드가 고정되지 않도록 synchronized 대신 사용)
+    private final ReentrantLock journalLock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 저널 fsync 를 한 스레드만 하도록 하는 잠금, 기다린 요청은 앞선 fsync 가 자신의 기록까지 포함했으면 바로 돌아감
+    private final ReentrantLock syncLock = new ReentrantLock();
+    // 저널에 쓴 기록 수 (journalLock 안에서 증가)와 디스크에 동기화된 기록 수
+    private final AtomicLong appendedRecords = new AtomicLong();
+    private final AtomicLong syncedRecords = new AtomicLong();
+    // 반영이 끝날 때마다 증가, DB 에서 읽은 값이 반영 전 값인지 판단하는 데 사용
+    private final AtomicLong flushGeneration = new AtomicLong();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final TaskScheduler taskScheduler;
+    // DB 가 대기열이 시작한 버전보다 앞서 있어 현재 버전 위에 다시 반영한 변경 / 일정이 삭제되어 버린 변경
+    private final Counter rebasedChanges;
+    private final Counter droppedChanges;
+
+    private Path journalPath;
+    private volatile FileChannel journal;
+    private ScheduledFuture<?> scheduledFlush;
+
+    public TodoWriteBehindQueue(TodoRepository todoRepository, TodoWriteVersion todoWriteVersion, TodoProperties todoProperties,
+                                ObjectMapper objectMapper, TaskScheduler taskScheduler, MeterRegistry meterRegistry) {
+        this.todoRepository = todoRepository;
+        this.todoWriteVersion = todoWriteVersion;
+        this.objectMapper = objectMapper;
+        this.taskScheduler = taskScheduler;
+        this.properties = todoProperties.getWriteBehind();
+        this.rebasedChanges = meterRegistry.counter("todo.write-behind.stale", "result", "rebased");
+        this.droppedChanges = meterRegistry.counter("todo.write-behind.stale", "result", "dropped");
+        if (!properties.isEnabled()) {
+            return;
+        }
+        meterRegistry.gauge("todo.write-behind.pending", pending, Map::size);
+        openJournal();
+        scheduledFlush = taskScheduler.scheduleWithFixedDelay(this::flush,
+                Instant.now().plus(properties.getFlushInterval()), properties.getFlushInterval());
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 완료 상태를 반전
+     * @return 반전된 완료 상태, 해당 ID의 일정이 없으면 빈 Optional
+     */
+    public Optional<Boolean> toggleCompleted(int id) {
+        return apply(id, change -> change.withCompleted(!change.completed()))
+                .map(PendingChange::completed);
+    }
+
+    /**
+     * 완료 상태를 지정한 값으로 변경
+     * @return 해당 ID의 일정이 있으면 true
+     */
+    public boolean setCompleted(int id, boolean completed) {
+        return apply(id, change -> change.withCompleted(completed)).isPresent();
+    }
+
+    /**
+     * 제목/내용/마감일/완료 상태 변경
+     * @param expectedVersion 클라이언트가 읽었던 버전, null 이면 충돌 검사를 하지 않음
+     * @return 해당 ID의 일정이 있으면 true
+     * @throws TodoConflictException 대기 중인 변경까지 포함한 현재 버전이 expectedVersion 과 다른 경우
+     */
+    public boolean update(int id, Integer expectedVersion, String title, String description, LocalDate dueDate, boolean completed) {
+        return apply(id, change -> {
+            if (expectedVersion != null && expectedVersion != change.version()) {
+                throw new TodoConflictException("다른 요청이 먼저 일정을 수정했거나 삭제했습니다. 다시 조회한 뒤 수정해주세요.");
+            }
+            return new PendingChange(id, title, description, dueDate, completed, LocalDateTime.now(), change.version() + 1, true);
+        }).isPresent();
+    }
+
+    /**
+     * 삭제된 일정의 대기 중인 변경을 버림 (저널에 남은 기록은 반영 시 0건으로 끝남)
+     */
+    public void discard(int id) {
+        pending.remove(id);
+    }
+
+    /**
+     * 대기 중인 변경을 덧씌운 일정 (대기 중인 변경이 없으면 그대로)
+     */
+    public TodoEntity overlay(TodoEntity entity) {
+        PendingChange change = pending.get(entity.getId());
+        if (change == null) {
+            return entity;
+        }
+        return entity.toBuilder()
+                .title(change.title())
+                .description(change.description())
+                .dueDate(change.dueDate())
+                .completed(change.completed())
+                .updatedAt(change.updatedAt())
+                .version(change.version())
+                .build();
+    }
+
+    /**
+     * 대기 중인 변경을 덧씌운 목록 항목
+     * 목록 정렬은 DB 에 반영된 값 기준이므로 반영 전까지는 바뀐 항목이 이전 위치에 보일 수 있습니다.
+     */
+    public List<TodoListItemDto> overlay(List<TodoListItemDto> items) {
+        if (pending.isEmpty()) {
+            return items;
+        }
+        List<TodoListItemDto> result = new ArrayList<>(items.size());
+        for (TodoListItemDto item : items) {
+            PendingChange change = pending.get(item.getId());
+            result.add(change == null ? item : new TodoListItemDto(item.getId(), change.title(), change.completed(),
+                    change.dueDate(), item.getAuthorName(), change.dueDate() != null && change.dueDate().isBefore(LocalDate.now())));
+        }
+        return result;
+    }
+
+    /**
+     * 변경을 대기열에 합치고 저널에 기록
+     * 대기 중인 변경이 없으면 DB 의 현재 값에서 시작하며, 읽는 사이에 반영이 끝나 읽은 값이 오래되었으면 다시 읽습니다.
+     */
+    private Optional<PendingChange> apply(int id, UnaryOperator<PendingChange> operator) {
+        while (true) {
+            long generation = flushGeneration.get();
+            PendingChange base = pending.get(id);
+            if (base == null) {
+                Optional<TodoEntity> loaded = todoRepository.findById(id);
+                if (loaded.isEmpty()) {
+                    return Optional.empty();
+                }
+                base = PendingChange.of(loaded.get());
+            }
+            if (pending.size() >= properties.getCapacity() && !pending.containsKey(id)) {
+                // 대기열이 가득 차면 요청한 스레드가 직접 반영해 자리를 만듦
+                flush();
+                if (pending.size() >= properties.getCapacity()) {
+                    throw new TodoSaveException("변경 대기열이 가득 찼습니다. ");
+                }
+                continue;
+            }
+            PendingChange next;
+            long record;
+            journalLock.lock();
+            try {
+                PendingChange current = pending.get(id);
+                if (current == null) {
+                    if (flushGeneration.get() != generation) {
+                        continue;
+                    }
+                    current = base;
+                }
+                next = operator.apply(current);
+                record = appendJournal(next);
+                pending.put(id, next);
+                if (pending.size() >= properties.getFlushBatchSize() && flushRequested.compareAndSet(false, true)) {
+                    taskScheduler.schedule(this::flush, Instant.now());
+                }
+            } finally {
+                journalLock.unlock();
+            }
+            // 응답하기 전에 기록이 디스크에 남았는지 확인 (잠금 밖에서 기다려 다른 요청은 그동안 저널에 계속 기록)
+            syncJournal(record);
+            return Optional.of(next);
+        }
+    }
+
+    /**
+     * 대기 중인 변경을 flush-batch-size 개씩 JDBC 배치로 반영
+     * 반영에 실패하면 대기열과 저널에 그대로 두고 다음 주기에 다시 시도합니다.
+     */
+    public void flush() {
+        flushRequested.set(false);
+        if (!properties.isEnabled()) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            int batchSize = properties.getFlushBatchSize();
+            // 반영하는 동안 계속 쌓이는 변경은 다음 주기에 반영 (한 번의 반영이 끝없이 이어지지 않게 함)
+            int rounds = (pending.size() + batchSize - 1) / batchSize;
+            boolean flushed = false;
+            for (int round = 0; round < rounds && !pending.isEmpty(); round++) {
+                List<PendingChange> batch = pending.values().stream().limit(batchSize).toList();
+                int[] rows = todoRepository.updateTodoLists(batch.stream().map(PendingChange::toEntity).toList());
+                List<PendingChange> applied = new ArrayList<>(batch.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    // 0 이면 DB 의 version 이 이미 같거나 앞서 있음 (오래된 값에서 시작했거나 삭제됨)
+                    if (rows[i] == 0) {
+                        resolveMissed(batch.get(i));
+                    } else {
+                        applied.add(batch.get(i));
+                    }
+                }
+                journalLock.lock();
+                try {
+                    // 반영하는 사이에 다시 바뀐 일정은 남겨 둠
+                    applied.forEach(change -> pending.remove(change.id(), change));
+                    flushGeneration.incrementAndGet();
+                    compactJournal();
+                } finally {
+                    journalLock.unlock();
+                }
+                flushed = true;
+                log.debug("대기 중인 변경 반영: {}건 (다시 확인 {}건)", applied.size(), batch.size() - applied.size());
+            }
+            if (flushed) {
+                todoWriteVersion.bump();
+            }
+        } catch (RuntimeException e) {
+            log.error("대기 중인 변경 반영 중 오류 발생 (남은 변경 {}건은 다음 주기에 다시 반영): {}", pending.size(), e.getMessage());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 반영되지 않은(0건) 변경 처리
+     * 클라이언트에는 이미 성공으로 응답했으므로 버리지 않고 DB 의 현재 버전 위에 다시 올려 다음 반영 때 저장합니다.
+     * <ul>
+     *     <li>일정이 삭제되었으면 버림</li>
+     *     <li>DB 의 값이 변경과 같으면 이미 반영된 것 (저널을 다시 읽은 경우)</li>
+     *     <li>그 밖에는 DB 의 현재 값 위에 다시 올려 (PendingChange.rebase) 대기열과 저널에 다시 기록</li>
+     * </ul>
+     */
+    private void resolveMissed(PendingChange change) {
+        Optional<TodoEntity> loaded = todoRepository.findById(change.id());
+        journalLock.lock();
+        long record;
+        try {
+            if (pending.get(change.id()) != change) {
+                // 확인하는 사이에 새 변경이 들어왔으면 그 변경이 다음 반영에서 같은 확인을 거침
+                return;
+            }
+            if (loaded.isEmpty()) {
+                pending.remove(change.id(), change);
+                flushGeneration.incrementAndGet();
+                droppedChanges.increment();
+                log.warn("삭제된 일정의 대기 중인 변경을 버립니다. ID: {}", change.id());
+                return;
+            }
+            TodoEntity current = loaded.get();
+            if (change.sameContent(current)) {
+                pending.remove(change.id(), change);
+                flushGeneration.incrementAndGet();
+                return;
+            }
+            if (current.getVersion() < change.version()) {
+                // 반영과 조회 사이에 바뀐 경우, 다음 반영에서 그대로 다시 시도
+                return;
+            }
+            PendingChange rebased = change.rebase(current);
+            record = appendJournal(rebased);
+            pending.put(change.id(), rebased);
+            rebasedChanges.increment();
+            log.warn("DB 의 version({})이 대기 중인 변경({})보다 앞서 있어 현재 버전 위에 다시 반영합니다. ID: {}",
+                    current.getVersion(), change.version(), change.id());
+        } finally {
+            journalLock.unlock();
+        }
+        syncJournal(record);
+    }
+
+    /**
+     * 저널 파일을 열고, 이전 실행에서 반영하지 못한 변경을 대기열로 읽어 들임
+     * 같은 일정은 나중에 기록된 상태가 남고, 마지막 줄이 기록 도중 끊겼으면 그 줄은 버립니다.
+     */
+    private void openJournal() {
+        journalPath = Path.of(properties.getJournalPath());
+        try {
+            if (journalPath.getParent() != null) {
+                Files.createDirectories(journalPath.getParent());
+            }
+            if (Files.exists(journalPath)) {
+                for (String line : Files.readAllLines(journalPath, StandardCharsets.UTF_8)) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        PendingChange change = objectMapper.readValue(line, PendingChange.class);
+                        pending.put(change.id(), change);
+                    } catch (IOException e) {
+                        log.warn("저널의 손상된 기록을 건너뜁니다: {}", e.getMessage());
+                    }
+                }
+                if (!pending.isEmpty()) {
+                    log.info("저널에서 반영되지 않은 변경 {}건을 읽었습니다.", pending.size());
+                }
+            }
+            journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("쓰기 지연 저널을 열 수 없습니다: " + journalPath, e);
+        }
+    }
+
+    /**
+     * 저널에 한 줄 기록 (journalLock 안에서 호출, 디스크 동기화는 잠금 밖에서 syncJournal 로)
+     * @return 기록 번호
+     */
+    private long appendJournal(PendingChange change) {
+        try {
+            byte[] line = objectMapper.writeValueAsBytes(change);
+            ByteBuffer buffer = ByteBuffer.allocate(line.length + 1).put(line).put((byte) '\n').flip();
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            return appendedRecords.incrementAndGet();
+        } catch (IOException e) {
+            log.error("쓰기 지연 저널 기록 중 오류 발생: {}", e.getMessage());
+            throw new TodoSaveException("변경 내용을 저널에 기록하지 못했습니다. ");
+        }
+    }
+
+    /**
+     * record 번째 기록까지 디스크에 동기화 (group commit)
+     * 한 스레드가 fsync 하는 동안 기록한 요청들은 잠금을 기다렸다가, 다음 한 번의 fsync 로 함께 동기화됩니다.
+     * 그래서 동시에 몰린 완료 처리도 fsync 횟수는 요청 수가 아니라 동기화 지연 시간당 한두 번입니다.
+     */
+    private void syncJournal(long record) {
+        if (!properties.isJournalFsync() || syncedRecords.get() >= record) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (syncedRecords.get() >= record) {
+                return;
+            }
+            // 지금까지 쓴 기록을 모두 포함해 동기화
+            long target = appendedRecords.get();
+            journal.force(false);
+            syncedRecords.accumulateAndGet(target, Math::max);
+        } catch (ClosedChannelException e) {
+            // 정리(compactJournal)로 저널이 교체된 경우, 교체하면서 동기화되었음
+            if (syncedRecords.get() < record) {
+                throw new TodoSaveException("변경 내용을 저널에 기록하지 못했습니다. ");
+            }
+        } catch (IOException e) {
+            log.error("쓰기 지연 저널 동기화 중 오류 발생: {}", e.getMessage());
+            throw new TodoSaveException("변경 내용을 저널에 기록하지 못했습니다. ");
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * 반영이 끝난 기록을 저널에서 정리 (journalLock 안에서 호출)
+     * 대기열이 비었으면 비우고, 남은 변경이 있는데 저널이 journal-compact-size 를 넘으면
+     * 남은 변경만 임시 파일에 쓴 뒤 원자적으로 교체해 중간에 중단되어도 기록을 잃지 않습니다.
+     */
+    private void compactJournal() {
+        // 저널을 바꾸는 동안 다른 스레드가 fsync 하지 않게 함 (잠금 순서 : journalLock -> syncLock)
+        syncLock.lock();
+        try {
+            if (pending.isEmpty()) {
+                journal.truncate(0);
+                journal.force(false);
+                syncedRecords.accumulateAndGet(appendedRecords.get(), Math::max);
+                return;
+            }
+            if (journal.size() < properties.getJournalCompactSize().toBytes()) {
+                return;
+            }
+            Path temp = journalPath.resolveSibling(journalPath.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                for (PendingChange change : pending.values()) {
+                    channel.write(ByteBuffer.wrap((objectMapper.writeValueAsString(change) + "\n").getBytes(StandardCharsets.UTF_8)));
+                }
+                channel.force(false);
+            }
+            journal.close();
+            Files.move(temp, journalPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            journal = FileChannel.open(journalPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            // 남은 변경은 모두 동기화된 새 파일에 있음
+            syncedRecords.accumulateAndGet(appendedRecords.get(), Math::max);
+        } catch (IOException e) {
+            // 정리하지 못해도 저널의 기록은 다시 반영해도 같은 결과이므로 다음 반영 때 다시 시도
+            log.warn("쓰기 지연 저널 정리 중 오류 발생: {}", e.getMessage());
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 변경을 모두 반영하고 저널을 닫음 (반영하지 못한 변경은 저널에 남아 다음 실행에서 반영)
+     */
+    @Override
+    public void close() throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+        }
+        flush();
+        journal.close();
+    }
+
+    /**
+     * 일정 하나의 반영 대기 중인 최종 상태 (저널에는 한 줄에 JSON 하나로 기록)
+     * 반전처럼 이전 값에 따라 달라지는 변경도 결과 값으로 기록하므로 같은 기록을 여러 번 반영해도 결과가 같습니다.
+     * contentChanged 는 제목/내용/마감일을 수정했는지 여부로, 완료 처리만 있었으면 다시 반영할 때 DB 의 내용을 그대로 둡니다.
+     */
+    record PendingChange(int id, String title, String description, LocalDate dueDate, boolean completed,
+                         LocalDateTime updatedAt, int version, boolean contentChanged) {
+
+        static PendingChange of(TodoEntity entity) {
+            return new PendingChange(entity.getId(), entity.getTitle(), entity.getDescription(), entity.getDueDate(),
+                    entity.isCompleted(), entity.getUpdatedAt(), entity.getVersion(), false);
+        }
+
+        // 완료 처리도 즉시 반영할 때처럼 수정 시각과 버전을 올림
+        PendingChange withCompleted(boolean completed) {
+            return new PendingChange(id, title, description, dueDate, completed, LocalDateTime.now(), version + 1, contentChanged);
+        }
+
+        // 저장된 일정(current) 위에 이 변경을 다시 올림, 완료 처리만 있었으면 완료 상태만 바꿈
+        PendingChange rebase(TodoEntity current) {
+            if (contentChanged) {
+                return new PendingChange(id, title, description, dueDate, completed, updatedAt, current.getVersion() + 1, true);
+            }
+            return new PendingChange(id, current.getTitle(), current.getDescription(), current.getDueDate(), completed,
+                    updatedAt, current.getVersion() + 1, false);
+        }
+
+        // 저장된 일정이 이 변경과 같은 내용인지 (이미 반영된 기록인지)
+        boolean sameContent(TodoEntity entity) {
+            return entity.getVersion() == version && entity.isCompleted() == completed
+                    && Objects.equals(entity.getTitle(), title)
+                    && Objects.equals(entity.getDescription(), description)
+                    && Objects.equals(entity.getDueDate(), dueDate);
+        }
+
+        TodoEntity toEntity() {
+            return TodoEntity.builder()
+                    .id(id)
+                    .title(title)
+                    .description(description)
+                    .dueDate(dueDate)
+                    .completed(completed)
+                    .updatedAt(updatedAt)
+                    .version(version)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.todo.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 일정 쓰기 버전
+ * 등록/수정/삭제/완료 처리 때마다 1씩 올라가며, 목록 캐시 키에 포함되어
+ * 버전이 바뀌면 이전 버전으로 만든 캐시 항목은 더 이상 조회되지 않습니다.
+ */
+@Component
+public class TodoWriteVersion {
+
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 현재 쓰기 버전
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * 쓰기 버전을 올림
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 올려, 커밋 전 데이터가 새 버전으로 캐시되지 않게 합니다.
+     */
+    public void bump() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version.incrementAndGet();
+                }
+            });
+            return;
+        }
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,46 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * console.sql 로 만든 DB 의 todo.createAt / updateAt 컬럼을 코드에서 쓰는 createdAt / updatedAt 으로 변경
+ * 이미 올바른 이름이면 아무것도 하지 않습니다.
+ */
+public class V2__Fix_timestamp_column_names extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        renameIfExists(connection, "createAt", "createdAt",
+                "timestamp default current_timestamp");
+        renameIfExists(connection, "updateAt", "updatedAt",
+                "timestamp default current_timestamp on update current_timestamp");
+    }
+
+    private void renameIfExists(Connection connection, String from, String to, String definition) throws SQLException {
+        if (!columnExists(connection, from) || columnExists(connection, to)) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("alter table todo change column " + from + " " + to + " " + definition);
+        }
+    }
+
+    private boolean columnExists(Connection connection, String column) throws SQLException {
+        String sql = "select count(*) from information_schema.columns " +
+                "where table_schema = database() and table_name = 'todo' and column_name = ?";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, column);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) > 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+-- 초기 스키마 (기존 DB 는 이 버전을 기준선으로 잡고 건너뜀)
+create table author
+(
+    author_id  int auto_increment primary key,
+    authorName varchar(255) not null,
+    email      varchar(255) not null unique,
+    createdAt  timestamp default current_timestamp,
+    updatedAt  timestamp default current_timestamp on update current_timestamp
+);
+
+create table todo
+(
+    id          int auto_increment primary key,
+    title       varchar(255) not null,
+    description text,
+    password    varchar(255) not null,
+    dueDate     date,
+    completed   boolean   default false,
+    createdAt   timestamp default current_timestamp,
+    updatedAt   timestamp default current_timestamp on update current_timestamp,
+    author_id   int,
+    constraint fk_author_id foreign key (author_id) references author (author_id)
+);
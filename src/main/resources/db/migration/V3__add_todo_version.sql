@@ -0,0 +1,3 @@
+-- 낙관적 잠금용 수정 버전
+alter table todo
+    add column version int not null default 0;
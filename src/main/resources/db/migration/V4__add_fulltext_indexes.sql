@@ -0,0 +1,6 @@
+-- 제목/내용, 작성자 이름 검색용 전문 인덱스 (한글 검색을 위해 ngram parser 사용)
+alter table todo
+    add fulltext index ft_todo_title_description (title, description) with parser ngram;
+
+alter table author
+    add fulltext index ft_author_name (authorName) with parser ngram;
@@ -0,0 +1,14 @@
+-- 목록 정렬 키인 마감 기한 경과 여부를 컬럼으로 저장
+-- (now() 에 따라 바뀌는 값이라 generated column 으로는 만들 수 없어 저장/수정 시 계산하고 자정에 갱신)
+alter table todo
+    add column overdue boolean not null default false after completed;
+
+update todo
+set overdue = true
+where dueDate < curdate();
+
+-- getList, getListByCursor : order by completed, overdue, dueDate, id 를 인덱스 순서로 읽음
+create index idx_todo_list on todo (completed, overdue, dueDate, id);
+
+-- searchByAuthor : 작성자별 최신순
+create index idx_todo_author_created on todo (author_id, createdAt);
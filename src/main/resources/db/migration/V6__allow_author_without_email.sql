@@ -0,0 +1,4 @@
+-- email 이 없는 작성자는 공용 자리표시 email 로 합치지 않고 작성자마다 새 행으로 저장
+-- unique 인덱스는 null 을 여러 개 허용하므로 실제 email 만 중복을 막음
+alter table author
+    modify email varchar(255) null;
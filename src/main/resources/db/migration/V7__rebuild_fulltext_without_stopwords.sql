@@ -0,0 +1,17 @@
+-- 전문 인덱스를 불용어 없이 다시 만듦
+-- InnoDB 기본 불용어 목록(a, i, is, in, the ...)을 쓰면 ngram parser 는 불용어를 포함한 토큰을 모두 버려서
+-- 'is', 'in' 같은 글자가 들어간 영어 제목이 like 검색과 달리 검색되지 않음
+-- innodb_ft_enable_stopword 는 인덱스를 만들 때의 값이 인덱스에 저장되므로 이 세션에서만 끄고 다시 만듦
+set session innodb_ft_enable_stopword = off;
+
+alter table todo
+    drop index ft_todo_title_description;
+alter table todo
+    add fulltext index ft_todo_title_description (title, description) with parser ngram;
+
+alter table author
+    drop index ft_author_name;
+alter table author
+    add fulltext index ft_author_name (authorName) with parser ngram;
+
+set session innodb_ft_enable_stopword = on;
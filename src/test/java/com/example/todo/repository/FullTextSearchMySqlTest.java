@@ -0,0 +1,129 @@
+package com.example.todo.repository;
+
+import com.example.todo.config.TodoProperties;
+import com.example.todo.dto.PageRequestDto;
+import com.example.todo.dto.TodoListItemDto;
+import com.example.todo.entity.TodoEntity;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FULLTEXT(ngram) 검색이 like 검색과 같은 결과를 돌려주는지 실제 MySQL 에서 비교
+ * 비어 있는 테스트용 스키마를 지정했을 때만 실행합니다. (스키마를 비우고 Flyway 마이그레이션을 처음부터 적용)
+ *
+ *   TODO_TEST_MYSQL_URL=jdbc:mysql://localhost:3305/todo_test TODO_TEST_MYSQL_USERNAME=root TODO_TEST_MYSQL_PASSWORD=... ./gradlew test
+ */
+@EnabledIfEnvironmentVariable(named = "TODO_TEST_MYSQL_URL", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FullTextSearchMySqlTest {
+
+    // 기본 불용어(a, i, is, in, the ...)가 들어간 영어 제목, 공백을 사이에 둔 ngram, 한글 제목
+    private static final List<String[]> TODOS = List.of(
+            new String[]{"This is a bug", "fix it in the morning"},
+            new String[]{"I am done", "nothing"},
+            new String[]{"ab bc", "separate words"},
+            new String[]{"abc", "joined word"},
+            new String[]{"Install the plugin", "and restart"},
+            new String[]{"스터디 자료 준비", "Java 자료 정리"},
+            new String[]{"회의록 정리", "is it in?"}
+    );
+    private static final List<String> QUERIES = List.of(
+            "is", "in", "the", "This is", "is a", "bug", "abc", "ab", "bc", "am done", "Install", "자료", "자료 정리", "정리");
+
+    private TodoRepositoryImpl fullTextRepository;
+    private TodoRepositoryImpl likeRepository;
+
+    @BeforeAll
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(System.getenv("TODO_TEST_MYSQL_URL"),
+                System.getenv("TODO_TEST_MYSQL_USERNAME"), System.getenv("TODO_TEST_MYSQL_PASSWORD"));
+        Flyway flyway = Flyway.configure().dataSource(dataSource).cleanDisabled(false).load();
+        flyway.clean();
+        flyway.migrate();
+
+        NamedParameterJdbcTemplate jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        TodoProperties likeProperties = new TodoProperties();
+        likeProperties.getSearch().setFullTextEnabled(false);
+        fullTextRepository = new TodoRepositoryImpl(jdbcTemplate, new TodoProperties());
+        likeRepository = new TodoRepositoryImpl(jdbcTemplate, likeProperties);
+
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update("insert into author (authorName, email) values (:authorName, :email)",
+                new MapSqlParameterSource("authorName", "Is Bug").addValue("email", "is@example.com"), keyHolder);
+        int authorId = keyHolder.getKey().intValue();
+        for (String[] todo : TODOS) {
+            fullTextRepository.registerTodoList(TodoEntity.builder()
+                    .title(todo[0])
+                    .description(todo[1])
+                    .password("hash")
+                    .dueDate(LocalDate.now().plusDays(1))
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build(), authorId);
+        }
+    }
+
+    @Test
+    void 제목_내용_검색은_전문_인덱스와_like_결과가_같다() {
+        for (String query : QUERIES) {
+            List<Integer> expected = TODOS.stream()
+                    .filter(todo -> contains(todo[0], query) || contains(todo[1], query))
+                    .map(todo -> todo[0])
+                    .map(this::idOf)
+                    .sorted((a, b) -> b - a)
+                    .toList();
+
+            assertThat(ids(fullTextRepository.searchByTitle(search(query)))).as("full-text: %s", query).isEqualTo(expected);
+            assertThat(ids(likeRepository.searchByTitle(search(query)))).as("like: %s", query).isEqualTo(expected);
+            assertThat(fullTextRepository.getCountByTitle(query)).as("full-text count: %s", query).isEqualTo(expected.size());
+        }
+    }
+
+    @Test
+    void 작성자_검색은_전문_인덱스와_like_결과가_같다() {
+        for (String query : List.of("Is", "Is Bug", "s B", "Bug")) {
+            assertThat(fullTextRepository.getCountByAuthor(query)).as("author: %s", query)
+                    .isEqualTo(likeRepository.getCountByAuthor(query))
+                    .isEqualTo(TODOS.size());
+        }
+        assertThat(fullTextRepository.getCountByAuthor("is bu g")).isZero();
+    }
+
+    private PageRequestDto search(String query) {
+        PageRequestDto pageRequestDto = new PageRequestDto(1, 100);
+        pageRequestDto.setQuery(query);
+        return pageRequestDto;
+    }
+
+    private int idOf(String title) {
+        return likeRepository.searchByTitle(search(title)).stream()
+                .filter(item -> item.getTitle().equals(title))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+    }
+
+    private List<Integer> ids(List<TodoListItemDto> items) {
+        return items.stream().map(TodoListItemDto::getId).toList();
+    }
+
+    private boolean contains(String text, String query) {
+        return text.toLowerCase(Locale.ROOT).contains(query.toLowerCase(Locale.ROOT));
+    }
+}
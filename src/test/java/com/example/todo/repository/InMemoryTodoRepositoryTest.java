@@ -0,0 +1,164 @@
+package com.example.todo.repository;
+
+import com.example.todo.config.TodoProperties;
+import com.example.todo.dto.PageRequestDto;
+import com.example.todo.dto.TodoCursor;
+import com.example.todo.dto.TodoListItemDto;
+import com.example.todo.entity.AuthorEntity;
+import com.example.todo.entity.TodoEntity;
+import com.example.todo.exception.DataAccessException;
+import com.example.todo.exception.TodoConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryTodoRepositoryTest {
+
+    private InMemoryAuthorRepository authorRepository;
+    private InMemoryTodoRepository todoRepository;
+
+    @BeforeEach
+    void setUp() {
+        authorRepository = new InMemoryAuthorRepository();
+        todoRepository = new InMemoryTodoRepository(new TodoProperties(), authorRepository);
+    }
+
+    @Test
+    void 목록은_미완료_마감전_마감일_id_순으로_정렬되고_전체_개수를_함께_돌려준다() {
+        LocalDate today = LocalDate.now();
+        int later = register("스터디 자료 준비", "홍길동", today.plusDays(3));
+        int noDueDate = register("회의록 정리", "김철수", null);
+        int sooner = register("스터디 발표", "홍길동", today.plusDays(1));
+        int overdue = register("보고서 제출", "이영희", today.minusDays(1));
+        int done = register("장보기", "김철수", today.plusDays(1));
+        todoRepository.toggleCompleted(done);
+
+        PagedResult<TodoListItemDto> result = todoRepository.getListWithTotal(new PageRequestDto(1, 10));
+
+        assertThat(result.getEntityList()).extracting(TodoListItemDto::getId)
+                .containsExactly(noDueDate, sooner, later, overdue, done);
+        assertThat(result.getTotal()).isEqualTo(5);
+    }
+
+    @Test
+    void 커서로_이어_읽으면_offset_페이지와_같은_순서다() {
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < 25; i++) {
+            register("일정 " + i, "작성자" + (i % 3), i % 4 == 0 ? null : today.plusDays(i % 5));
+        }
+        List<Integer> offsetIds = todoRepository.getList(new PageRequestDto(1, 100)).stream()
+                .map(TodoListItemDto::getId).toList();
+
+        List<Integer> cursorIds = new ArrayList<>();
+        PageRequestDto pageRequestDto = new PageRequestDto(1, 10);
+        while (true) {
+            List<TodoListItemDto> page = todoRepository.getListByCursor(pageRequestDto, 10);
+            page.forEach(item -> cursorIds.add(item.getId()));
+            if (page.size() < 10) {
+                break;
+            }
+            TodoListItemDto last = page.get(page.size() - 1);
+            pageRequestDto.setCursor(new TodoCursor(last.isCompleted(), last.isOverdue(), last.getDueDate(), last.getId()).encode());
+        }
+
+        assertThat(cursorIds).isEqualTo(offsetIds);
+    }
+
+    @Test
+    void 제목_ngram_색인으로_검색하고_개수를_센다() {
+        int first = register("스터디 자료 준비", "홍길동", null);
+        register("회의록 정리", "홍길동", null);
+        int second = register("주간 스터디", "김철수", null);
+
+        PageRequestDto pageRequestDto = new PageRequestDto(1, 10);
+        pageRequestDto.setQuery("스터디");
+
+        assertThat(todoRepository.searchByTitle(pageRequestDto)).extracting(TodoListItemDto::getId)
+                .containsExactly(second, first);
+        assertThat(todoRepository.getCountByTitle("스터")).isEqualTo(2);
+        assertThat(todoRepository.getCountByTitle("스터디 자료")).isEqualTo(1);
+        assertThat(todoRepository.getCountByTitle("없는 제목")).isZero();
+    }
+
+    @Test
+    void 작성자_이름_일부로_검색한다() {
+        register("스터디 자료 준비", "홍길동", null);
+        register("회의록 정리", "홍길순", null);
+        register("장보기", "김철수", null);
+
+        PageRequestDto pageRequestDto = new PageRequestDto(1, 10);
+        pageRequestDto.setAuthorName("홍길");
+
+        assertThat(todoRepository.getList(pageRequestDto)).hasSize(2);
+        assertThat(todoRepository.getCount(pageRequestDto)).isEqualTo(2);
+        assertThat(todoRepository.getCountByAuthor("철수")).isEqualTo(1);
+    }
+
+    @Test
+    void 읽은_이후_다른_수정이_있으면_충돌로_처리한다() {
+        int id = register("스터디 자료 준비", "홍길동", null);
+        TodoEntity first = todoRepository.findById(id).orElseThrow();
+        TodoEntity second = todoRepository.findById(id).orElseThrow();
+
+        first.setTitle("스터디 자료 준비 (수정)");
+        todoRepository.updateTodoList(first);
+        second.setTitle("다른 수정");
+
+        assertThatThrownBy(() -> todoRepository.updateTodoList(second)).isInstanceOf(TodoConflictException.class);
+        assertThat(todoRepository.findById(id).orElseThrow().getVersion()).isEqualTo(1);
+        assertThat(todoRepository.getCountByTitle("수정")).isEqualTo(1);
+    }
+
+    @Test
+    void 작성자_이름과_email_은_저장된_작성자의_값이다() {
+        int first = register("스터디 자료 준비", "홍길동", "hong@example.com", null);
+        int second = register("회의록 정리", "길동", "HONG@example.com", null);
+
+        assertThat(todoRepository.findById(second).orElseThrow())
+                .extracting(TodoEntity::getAuthorName, TodoEntity::getEmail)
+                .containsExactly("홍길동", "hong@example.com");
+        PageRequestDto pageRequestDto = new PageRequestDto(1, 10);
+        assertThat(todoRepository.getList(pageRequestDto)).extracting(TodoListItemDto::getAuthorName)
+                .containsExactly("홍길동", "홍길동");
+        assertThat(todoRepository.getCountByAuthor("홍길동")).isEqualTo(2);
+        assertThat(todoRepository.findById(first).orElseThrow().getEmail()).isEqualTo("hong@example.com");
+    }
+
+    @Test
+    void 없는_작성자의_일정은_저장하지_않는다() {
+        TodoEntity todoEntity = TodoEntity.builder().title("스터디 자료 준비").password("hash").authorId(99).build();
+
+        assertThatThrownBy(() -> todoRepository.registerTodoList(todoEntity, 99)).isInstanceOf(DataAccessException.class);
+        assertThatThrownBy(() -> todoRepository.registerTodoLists(List.of(todoEntity))).isInstanceOf(DataAccessException.class);
+        assertThat(todoRepository.getCount(new PageRequestDto(1, 10))).isZero();
+    }
+
+    private int register(String title, String authorName, LocalDate dueDate) {
+        return register(title, authorName, authorName + "@example.com", dueDate);
+    }
+
+    private int register(String title, String authorName, String email, LocalDate dueDate) {
+        LocalDateTime now = LocalDateTime.now();
+        int authorId = authorRepository.findOrCreateAuthorId(AuthorEntity.builder()
+                .authorName(authorName)
+                .email(email)
+                .build());
+        TodoEntity todoEntity = TodoEntity.builder()
+                .title(title)
+                .authorName(authorName)
+                .email(email)
+                .password("hash")
+                .dueDate(dueDate)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        return todoRepository.registerTodoList(todoEntity, authorId);
+    }
+}
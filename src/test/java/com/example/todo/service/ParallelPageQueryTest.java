@@ -0,0 +1,82 @@
+package com.example.todo.service;
+
+import com.example.todo.config.TodoProperties;
+import com.example.todo.exception.DataAccessException;
+import com.example.todo.repository.PagedResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelPageQueryTest {
+
+    private ParallelPageQuery parallelPageQuery;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        TodoProperties todoProperties = new TodoProperties();
+        todoProperties.getList().setParallelMaxConcurrency(2);
+        todoProperties.getList().setParallelTimeout(Duration.ofMillis(200));
+        parallelPageQuery = new ParallelPageQuery(todoProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        parallelPageQuery.close();
+    }
+
+    @Test
+    void 목록과_개수를_함께_돌려준다() {
+        PagedResult<String> result = parallelPageQuery.execute(() -> List.of("a", "b"), () -> 2);
+
+        assertThat(result.getEntityList()).containsExactly("a", "b");
+        assertThat(result.getTotal()).isEqualTo(2);
+    }
+
+    @Test
+    void 자리가_없으면_제한_시간_안에_실패하고_쿼리를_보내지_않는다() {
+        // 시간 초과로 버렸지만 아직 끝나지 않은 쿼리 두 개가 자리를 모두 차지
+        assertThatThrownBy(() -> parallelPageQuery.execute(() -> await(List.of("a")), () -> await(1)))
+                .isInstanceOf(DataAccessException.class);
+
+        AtomicBoolean started = new AtomicBoolean();
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> parallelPageQuery.execute(() -> {
+            started.set(true);
+            return List.of("b");
+        }, () -> 1)).isInstanceOf(DataAccessException.class);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_000);
+        assertThat(started).isFalse();
+    }
+
+    @Test
+    void 시간_초과로_버린_쿼리가_끝나면_자리를_돌려받는다() {
+        assertThatThrownBy(() -> parallelPageQuery.execute(() -> await(List.of("a")), () -> await(1)))
+                .isInstanceOf(DataAccessException.class);
+        release.countDown();
+
+        PagedResult<String> result = parallelPageQuery.execute(() -> List.of("b"), () -> 1);
+
+        assertThat(result.getEntityList()).containsExactly("b");
+    }
+
+    private <T> T await(T value) {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.todo.service;
+
+import com.example.todo.config.CacheConfig;
+import com.example.todo.config.TodoProperties;
+import com.example.todo.dto.TodoRequestDto;
+import com.example.todo.entity.AuthorEntity;
+import com.example.todo.entity.TodoEntity;
+import com.example.todo.exception.PasswordException;
+import com.example.todo.exception.TodoConflictException;
+import com.example.todo.exception.TodoNotFoundException;
+import com.example.todo.repository.InMemoryAuthorRepository;
+import com.example.todo.repository.InMemoryTodoRepository;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordVerifierTest {
+
+    private static final Duration TOKEN_TTL = Duration.ofMillis(600);
+
+    private InMemoryAuthorRepository authorRepository;
+    private InMemoryTodoRepository todoRepository;
+    private PasswordEncoder passwordEncoder;
+    private PasswordVerifier passwordVerifier;
+    private TodoServiceImpl todoService;
+    private ThreadPoolTaskScheduler taskScheduler;
+    private ParallelPageQuery parallelPageQuery;
+
+    @BeforeEach
+    void setUp() {
+        TodoProperties todoProperties = new TodoProperties();
+        todoProperties.getPassword().setVerificationTtl(TOKEN_TTL);
+        authorRepository = new InMemoryAuthorRepository();
+        todoRepository = new InMemoryTodoRepository(todoProperties, authorRepository);
+        // 테스트 시간을 줄이려고 가장 낮은 cost 사용
+        passwordEncoder = new BCryptPasswordEncoder(4);
+        CacheManager cacheManager = new CacheConfig().cacheManager(todoProperties);
+        passwordVerifier = new PasswordVerifier(todoRepository, passwordEncoder, cacheManager);
+
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.initialize();
+        parallelPageQuery = new ParallelPageQuery(todoProperties);
+        TodoWriteVersion todoWriteVersion = new TodoWriteVersion();
+        TodoWriteBehindQueue writeBehindQueue = new TodoWriteBehindQueue(todoRepository, todoWriteVersion, todoProperties,
+                JsonMapper.builder().findAndAddModules().build(), taskScheduler, new SimpleMeterRegistry());
+        todoService = new TodoServiceImpl(authorRepository, todoRepository, todoProperties, cacheManager, todoWriteVersion,
+                parallelPageQuery, passwordVerifier, writeBehindQueue, new NoOpTransactionManager());
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelPageQuery.close();
+        taskScheduler.shutdown();
+    }
+
+    @Test
+    void 평문으로_저장된_비밀번호는_일치하면_해시로_바꿔_저장한다() {
+        int id = register("password1");
+
+        assertThat(passwordVerifier.matches(id, "password2")).isFalse();
+        assertThat(todoRepository.findPasswordById(id)).contains("password1");
+
+        assertThat(passwordVerifier.matches(id, "password1")).isTrue();
+        String stored = todoRepository.findPasswordById(id).orElseThrow();
+        assertThat(stored).startsWith("$2a$");
+        assertThat(passwordEncoder.matches("password1", stored)).isTrue();
+        // 해시로 바뀐 뒤에도 같은 비밀번호로 검증
+        assertThat(passwordVerifier.matches(id, "password1")).isTrue();
+        assertThat(passwordVerifier.matches(id, stored)).isFalse();
+    }
+
+    @Test
+    void 없는_일정은_찾을_수_없다고_알린다() {
+        assertThatThrownBy(() -> passwordVerifier.matches(99, "password1")).isInstanceOf(TodoNotFoundException.class);
+    }
+
+    @Test
+    void 수정용_토큰은_발급한_일정에_한_번만_쓸_수_있다() {
+        int id = register(passwordEncoder.encode("password1"));
+        int other = register(passwordEncoder.encode("password1"));
+
+        assertThat(passwordVerifier.issueToken(id, "password2")).isNull();
+        String token = passwordVerifier.issueToken(id, "password1");
+
+        assertThat(passwordVerifier.consumeToken(other, token)).isFalse();
+        assertThat(passwordVerifier.consumeToken(id, "발급하지 않은 토큰")).isFalse();
+        assertThat(passwordVerifier.consumeToken(id, token)).isTrue();
+        assertThat(passwordVerifier.consumeToken(id, token)).isFalse();
+    }
+
+    @Test
+    void 되돌린_토큰은_다시_쓸_수_있지만_유효_시간은_늘지_않는다() throws InterruptedException {
+        int id = register(passwordEncoder.encode("password1"));
+        String token = passwordVerifier.issueToken(id, "password1");
+
+        Thread.sleep(TOKEN_TTL.toMillis() / 2);
+        assertThat(passwordVerifier.consumeToken(id, token)).isTrue();
+        passwordVerifier.restoreToken(id, token);
+        assertThat(passwordVerifier.consumeToken(id, token)).isTrue();
+        passwordVerifier.restoreToken(id, token);
+
+        // 발급 시각부터 TTL 이 지나면 되돌린 시각과 관계없이 만료
+        Thread.sleep(TOKEN_TTL.toMillis() / 2 + 200);
+        assertThat(passwordVerifier.consumeToken(id, token)).isFalse();
+    }
+
+    @Test
+    void 발급하지_않았거나_쓰지_않은_토큰은_되돌려도_새로_생기지_않는다() {
+        int id = register(passwordEncoder.encode("password1"));
+        String token = passwordVerifier.issueToken(id, "password1");
+
+        passwordVerifier.restoreToken(id, "발급하지 않은 토큰");
+        passwordVerifier.restoreToken(id, token);
+
+        assertThat(passwordVerifier.consumeToken(id, "발급하지 않은 토큰")).isFalse();
+        assertThat(passwordVerifier.consumeToken(id, token)).isTrue();
+        assertThat(passwordVerifier.consumeToken(id, token)).isFalse();
+    }
+
+    @Test
+    void 수정은_토큰이나_비밀번호가_맞아야_하고_충돌로_실패하면_토큰을_되돌린다() {
+        int id = register(passwordEncoder.encode("password1"));
+        String token = passwordVerifier.issueToken(id, "password1");
+
+        assertThatThrownBy(() -> todoService.updateTodoList(id, update("틀린 비밀번호", null, "password2", 0)))
+                .isInstanceOf(PasswordException.class);
+
+        // 읽은 뒤 다른 수정이 먼저 반영된 경우 (version 불일치)
+        assertThatThrownBy(() -> todoService.updateTodoList(id, update("충돌", token, null, 5)))
+                .isInstanceOf(TodoConflictException.class);
+        assertThat(todoService.updateTodoList(id, update("토큰으로 수정", token, null, 0))).isEqualTo(1);
+        assertThat(todoRepository.findById(id).orElseThrow().getTitle()).isEqualTo("토큰으로 수정");
+
+        // 사용한 토큰으로는 다시 수정할 수 없고 비밀번호로는 수정
+        assertThatThrownBy(() -> todoService.updateTodoList(id, update("재사용", token, null, 1)))
+                .isInstanceOf(PasswordException.class);
+        assertThat(todoService.updateTodoList(id, update("비밀번호로 수정", null, "password1", 1))).isEqualTo(1);
+    }
+
+    @Test
+    void 삭제는_비밀번호가_맞아야_한다() {
+        int id = register("password1");
+
+        assertThatThrownBy(() -> todoService.deleteTodoList(id, "password2")).isInstanceOf(PasswordException.class);
+        assertThat(todoRepository.findById(id)).isPresent();
+
+        assertThat(todoService.deleteTodoList(id, "password1")).isEqualTo(1);
+        assertThat(todoRepository.findById(id)).isEmpty();
+        assertThatThrownBy(() -> todoService.deleteTodoList(id, "password1")).isInstanceOf(TodoNotFoundException.class);
+    }
+
+    private int register(String storedPassword) {
+        LocalDateTime now = LocalDateTime.now();
+        int authorId = authorRepository.findOrCreateAuthorId(AuthorEntity.builder()
+                .authorName("홍길동")
+                .email("hong@example.com")
+                .build());
+        TodoEntity todoEntity = TodoEntity.builder()
+                .title("스터디 자료 준비")
+                .password(storedPassword)
+                .dueDate(null)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        return todoRepository.registerTodoList(todoEntity, authorId);
+    }
+
+    private TodoRequestDto update(String title, String token, String password, int version) {
+        TodoRequestDto requestDto = new TodoRequestDto();
+        requestDto.setTitle(title);
+        requestDto.setVerificationToken(token);
+        requestDto.setPassword(password);
+        requestDto.setVersion(version);
+        return requestDto;
+    }
+
+    /**
+     * 트랜잭션 경계만 흉내 내는 트랜잭션 관리자 (메모리 저장소는 트랜잭션이 필요 없음)
+     */
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
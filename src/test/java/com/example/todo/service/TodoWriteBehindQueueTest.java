@@ -0,0 +1,182 @@
+package com.example.todo.service;
+
+import com.example.todo.config.TodoProperties;
+import com.example.todo.entity.AuthorEntity;
+import com.example.todo.entity.TodoEntity;
+import com.example.todo.repository.InMemoryAuthorRepository;
+import com.example.todo.repository.InMemoryTodoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoWriteBehindQueueTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final List<TodoWriteBehindQueue> queues = new ArrayList<>();
+    private TodoProperties todoProperties;
+    private InMemoryAuthorRepository authorRepository;
+    private InMemoryTodoRepository todoRepository;
+    private ThreadPoolTaskScheduler taskScheduler;
+    private SimpleMeterRegistry meterRegistry;
+    private Path journalPath;
+
+    @BeforeEach
+    void setUp() {
+        journalPath = tempDir.resolve("todo-write-behind.journal");
+        todoProperties = new TodoProperties();
+        TodoProperties.WriteBehindProperties writeBehind = todoProperties.getWriteBehind();
+        writeBehind.setEnabled(true);
+        writeBehind.setJournalPath(journalPath.toString());
+        // 주기 반영은 테스트 중에 일어나지 않게 하고 flush 를 직접 호출
+        writeBehind.setFlushInterval(Duration.ofHours(1));
+        authorRepository = new InMemoryAuthorRepository();
+        todoRepository = new InMemoryTodoRepository(todoProperties, authorRepository);
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.initialize();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (TodoWriteBehindQueue queue : queues) {
+            queue.close();
+        }
+        taskScheduler.shutdown();
+    }
+
+    @Test
+    void 같은_일정의_변경은_하나로_합쳐_반영하고_저널을_비운다() throws Exception {
+        int id = register("스터디 자료 준비");
+        TodoWriteBehindQueue queue = newQueue();
+
+        queue.toggleCompleted(id);
+        queue.toggleCompleted(id);
+        queue.toggleCompleted(id);
+
+        assertThat(meterRegistry.get("todo.write-behind.pending").gauge().value()).isEqualTo(1);
+        assertThat(todoRepository.findById(id).orElseThrow().isCompleted()).isFalse();
+        assertThat(Files.readAllLines(journalPath)).hasSize(3);
+
+        queue.flush();
+
+        TodoEntity saved = todoRepository.findById(id).orElseThrow();
+        assertThat(saved.isCompleted()).isTrue();
+        assertThat(saved.getVersion()).isEqualTo(3);
+        assertThat(meterRegistry.get("todo.write-behind.pending").gauge().value()).isZero();
+        assertThat(Files.size(journalPath)).isZero();
+    }
+
+    @Test
+    void 반영하지_못한_변경은_재시작할_때_저널에서_읽어_반영한다() {
+        int id = register("스터디 자료 준비");
+        // 반영 전에 프로세스가 중단된 상황 (close 를 부르지 않음)
+        newQueue().update(id, 0, "스터디 자료 준비 (수정)", "내용", null, true);
+
+        TodoWriteBehindQueue restarted = newQueue();
+        restarted.flush();
+
+        TodoEntity saved = todoRepository.findById(id).orElseThrow();
+        assertThat(saved.getTitle()).isEqualTo("스터디 자료 준비 (수정)");
+        assertThat(saved.isCompleted()).isTrue();
+        assertThat(saved.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void 이미_반영된_저널을_다시_읽어도_결과가_같다() throws Exception {
+        int id = register("스터디 자료 준비");
+        TodoWriteBehindQueue queue = newQueue();
+        queue.toggleCompleted(id);
+        List<String> journal = Files.readAllLines(journalPath);
+        queue.flush();
+        // 반영 후 저널을 비우기 전에 중단된 상황
+        Files.write(journalPath, journal);
+
+        TodoWriteBehindQueue restarted = newQueue();
+        restarted.flush();
+
+        TodoEntity saved = todoRepository.findById(id).orElseThrow();
+        assertThat(saved.isCompleted()).isTrue();
+        assertThat(saved.getVersion()).isEqualTo(1);
+        assertThat(meterRegistry.get("todo.write-behind.stale").tag("result", "rebased").counter().count()).isZero();
+        assertThat(Files.size(journalPath)).isZero();
+    }
+
+    @Test
+    void DB_의_버전이_앞서_있으면_현재_버전_위에_다시_반영한다() {
+        // 완료 처리만 대기 중이면 다른 경로의 수정 내용은 그대로 두고 완료 상태만 바꿈
+        int id = register("스터디 자료 준비");
+        TodoWriteBehindQueue queue = newQueue();
+        queue.toggleCompleted(id);
+        // 대기열이 읽은 뒤 다른 경로로 일정이 수정됨
+        TodoEntity changed = todoRepository.findById(id).orElseThrow();
+        changed.setDescription("다른 경로의 수정");
+        todoRepository.updateTodoList(changed);
+
+        queue.flush();
+        queue.flush();
+
+        TodoEntity saved = todoRepository.findById(id).orElseThrow();
+        assertThat(saved.isCompleted()).isTrue();
+        assertThat(saved.getDescription()).isEqualTo("다른 경로의 수정");
+        assertThat(saved.getVersion()).isEqualTo(2);
+        assertThat(meterRegistry.get("todo.write-behind.stale").tag("result", "rebased").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("todo.write-behind.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    void 삭제된_일정의_변경은_버린다() {
+        int id = register("스터디 자료 준비");
+        TodoWriteBehindQueue queue = newQueue();
+        queue.toggleCompleted(id);
+        todoRepository.deleteTodoList(id, "hash");
+
+        queue.flush();
+
+        assertThat(meterRegistry.get("todo.write-behind.stale").tag("result", "dropped").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("todo.write-behind.pending").gauge().value()).isZero();
+    }
+
+    private TodoWriteBehindQueue newQueue() {
+        // 재시작을 흉내 낼 때 이전 인스턴스의 게이지가 남지 않도록 레지스트리를 새로 만듦
+        meterRegistry = new SimpleMeterRegistry();
+        TodoWriteBehindQueue queue = new TodoWriteBehindQueue(todoRepository, new TodoWriteVersion(), todoProperties,
+                objectMapper, taskScheduler, meterRegistry);
+        queues.add(queue);
+        return queue;
+    }
+
+    private int register(String title) {
+        LocalDateTime now = LocalDateTime.now();
+        int authorId = authorRepository.findOrCreateAuthorId(AuthorEntity.builder()
+                .authorName("홍길동")
+                .email("hong@example.com")
+                .build());
+        TodoEntity todoEntity = TodoEntity.builder()
+                .title(title)
+                .authorName("홍길동")
+                .email("hong@example.com")
+                .password("hash")
+                .dueDate(null)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        return todoRepository.registerTodoList(todoEntity, authorId);
+    }
+}